@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Runs the end-to-end load test on a single box: local MongoDB in docker, the packaged
+# application pointed at the Google stub, then the load-test driver.
+#
+# Usage: scripts/loadtest.sh [-Dloadtest.users=500 -Dloadtest.duration-seconds=120 ...]
+# See LoadTestRunner for all loadtest.* properties.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+MONGO_PORT="${MONGO_PORT:-27017}"
+APP_PORT="${APP_PORT:-8080}"
+STUB_PORT="${STUB_PORT:-18081}"
+export JWT_SECRET="${JWT_SECRET:-loadtest-secret}"
+export MONGODB_URI="mongodb://localhost:$MONGO_PORT/goal_tracker"
+export GOOGLE_CLIENT_ID=loadtest GOOGLE_CLIENT_SECRET=loadtest
+
+cleanup() {
+    [[ -n "${APP_PID:-}" ]] && kill "$APP_PID" 2> /dev/null || true
+    docker rm -f goal-forge-loadtest-mongo > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker run -d --rm --name goal-forge-loadtest-mongo -p "$MONGO_PORT:27017" mongo:7 > /dev/null
+
+sh ./mvnw -q -B package -DskipTests
+# Admission limits (rate, in-flight and latency shedding) are raised so the run measures the
+# service rather than admission control
+java -jar target/goal-forge-0.0.1-SNAPSHOT.jar \
+    --server.port="$APP_PORT" \
+    --goalforge.google.userinfo-uri="http://localhost:$STUB_PORT/userinfo" \
+    --goalforge.admission.light.burst=10000 --goalforge.admission.light.per-second=10000 \
+    --goalforge.admission.heavy.burst=1000 --goalforge.admission.heavy.per-second=1000 \
+    --goalforge.admission.max-concurrent=10000 --goalforge.admission.max-concurrent-heavy=1000 \
+    --goalforge.admission.mongo-latency-threshold-ms=1000000 \
+    > target/loadtest-app.log 2>&1 &
+APP_PID=$!
+
+until curl -sf "http://localhost:$APP_PORT/api/ping" > /dev/null; do
+    kill -0 "$APP_PID" 2> /dev/null || { echo "Application failed to start, see target/loadtest-app.log"; exit 1; }
+    sleep 0.5
+done
+
+sh ./mvnw -q -B -Ploadtest test-compile exec:java \
+    -Dloadtest.base-url="http://localhost:$APP_PORT" \
+    -Dloadtest.mongo-uri="mongodb://localhost:$MONGO_PORT" \
+    -Dloadtest.stub-port="$STUB_PORT" \
+    -Dloadtest.jwt-secret="$JWT_SECRET" \
+    "$@"
@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# Compares cold-start time and resident memory of the JVM, CDS and native images.
+#
+# Usage: MONGODB_URI=... JWT_SECRET=... scripts/startup-compare.sh [runs]
+# Requires docker and a reachable MongoDB; GOOGLE_CLIENT_ID/SECRET default to placeholders.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT=18080
+: "${MONGODB_URI:?MONGODB_URI must be set}"
+: "${JWT_SECRET:?JWT_SECRET must be set}"
+GOOGLE_CLIENT_ID="${GOOGLE_CLIENT_ID:-startup-compare}"
+GOOGLE_CLIENT_SECRET="${GOOGLE_CLIENT_SECRET:-startup-compare}"
+
+cd "$(dirname "$0")/.."
+
+declare -A DOCKERFILES=([jvm]=Dockerfile [cds]=Dockerfile.cds [native]=Dockerfile.native)
+
+now_ms() { date +%s%3N; }
+
+for variant in jvm cds native; do
+    docker build -q -f "${DOCKERFILES[$variant]}" -t "goal-forge:$variant" . > /dev/null
+done
+
+printf '%-8s %6s %12s %10s\n' variant run startup_ms rss_mb
+for variant in jvm cds native; do
+    for run in $(seq 1 "$RUNS"); do
+        start=$(now_ms)
+        cid=$(docker run -d --network host \
+            -e MONGODB_URI="$MONGODB_URI" -e JWT_SECRET="$JWT_SECRET" \
+            -e GOOGLE_CLIENT_ID="$GOOGLE_CLIENT_ID" -e GOOGLE_CLIENT_SECRET="$GOOGLE_CLIENT_SECRET" \
+            -e SERVER_PORT="$PORT" "goal-forge:$variant")
+        until curl -sf "http://localhost:$PORT/api/ping" > /dev/null; do
+            sleep 0.02
+        done
+        elapsed=$(( $(now_ms) - start ))
+        rss_kb=$(docker exec "$cid" sh -c "grep VmRSS /proc/1/status" | awk '{print $2}')
+        printf '%-8s %6d %12d %10.1f\n' "$variant" "$run" "$elapsed" "$(echo "$rss_kb / 1024" | bc -l)"
+        docker rm -f "$cid" > /dev/null
+    done
+done
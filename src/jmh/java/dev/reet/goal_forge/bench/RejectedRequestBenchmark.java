@@ -0,0 +1,71 @@
+package dev.reet.goal_forge.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.reet.goal_forge.exception.GoalDomainException;
+import dev.reet.goal_forge.exception.GoalPausedException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rejecting a progress update: throw at a Spring-like stack depth, catch in the handler,
+ * produce the JSON body. "legacy" is the previous path (stack trace + HashMap serialized by
+ * Jackson); "template" is the stackless exception rendered from its prebuilt body.
+ * Run: ./mvnw -Pjmh test-compile exec:java -Dexec.args="RejectedRequestBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RejectedRequestBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Param({"40", "120"})
+    public int stackDepth;
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try {
+            throwAt(stackDepth, true);
+            return null;
+        } catch (LegacyGoalPausedException ex) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("error", "GoalPausedException");
+            body.put("message", ex.getMessage());
+            body.put("status", 400);
+            return MAPPER.writeValueAsBytes(body);
+        }
+    }
+
+    @Benchmark
+    public byte[] template() {
+        try {
+            throwAt(stackDepth, false);
+            return null;
+        } catch (GoalDomainException ex) {
+            return ex.getErrorResponse().render(ex.getMessage());
+        }
+    }
+
+    private static void throwAt(int depth, boolean legacy) {
+        if (depth > 0) {
+            throwAt(depth - 1, legacy);
+            return;
+        }
+        if (legacy) {
+            throw new LegacyGoalPausedException("Goal is paused");
+        }
+        throw new GoalPausedException("Goal is paused");
+    }
+
+    // Shape of the exceptions before they became stackless
+    static class LegacyGoalPausedException extends RuntimeException {
+        LegacyGoalPausedException(String message) {
+            super(message);
+        }
+    }
+}
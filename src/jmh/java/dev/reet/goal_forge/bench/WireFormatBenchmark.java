@@ -0,0 +1,103 @@
+package dev.reet.goal_forge.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.reet.goal_forge.model.Goal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode/decode cost of a user's goal list in each wire format served by GoalController.
+ * Bytes on the wire (raw and gzipped) are printed once per trial.
+ * Run: ./mvnw -Pjmh test-compile exec:java -Dexec.args="WireFormatBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+    private static final TypeReference<List<Goal>> GOAL_LIST = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"30", "365"})
+    public int calendarDays;
+
+    private ObjectMapper mapper;
+    private List<Goal> goals;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            default -> new ObjectMapper();
+        };
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        goals = new ArrayList<>();
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int g = 0; g < 20; g++) {
+            Goal goal = new Goal();
+            goal.setId("66a1f0c2e4b0" + String.format("%012d", g));
+            goal.setUserId("66a1f0c2e4b0000000000001");
+            goal.setGoalName("Goal " + g);
+            goal.setProgressType(g % 2 == 0 ? "dur" : "cnt");
+            goal.setEstimatedEffort(100_000);
+            goal.setStartDate(start);
+            goal.setStatus("ACTIVE");
+            goal.setDisplayOrder(g);
+            double invested = 0;
+            for (int d = 0; d < calendarDays; d++) {
+                double effort = (d * 37 + g) % 240;
+                goal.getProgressCalendar().put(start.plusDays(d).toString(), effort);
+                invested += effort;
+            }
+            goal.setInvestedEffort(invested);
+            goal.setRemainingEffort(goal.getEstimatedEffort() - invested);
+            goals.add(goal);
+        }
+        encoded = mapper.writeValueAsBytes(goals);
+        System.out.printf("%n[%s, %d days] raw=%d bytes, gzip=%d bytes%n",
+                format, calendarDays, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(goals);
+    }
+
+    @Benchmark
+    public List<Goal> decode() throws IOException {
+        return mapper.readValue(encoded, GOAL_LIST);
+    }
+
+    @Benchmark
+    public byte[] encodeGzip() throws IOException {
+        return gzip(mapper.writeValueAsBytes(goals));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,51 @@
+package dev.reet.goal_forge.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Stands in for Google's userinfo endpoint. An access token "loadtest-N" resolves to the
+ * synthetic user with googleId "loadtest-N"; anything else is rejected with 401.
+ * Point the application at it with goalforge.google.userinfo-uri=http://localhost:PORT/userinfo.
+ */
+public class GoogleUserInfoStub implements AutoCloseable {
+    private final HttpServer server;
+
+    public GoogleUserInfoStub(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 512);
+        server.createContext("/userinfo", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        String token = query != null && query.startsWith("access_token=") ? query.substring("access_token=".length()) : "";
+        int status;
+        String body;
+        if (token.startsWith(SyntheticDataGenerator.GOOGLE_ID_PREFIX)) {
+            status = 200;
+            body = "{\"sub\":\"" + token + "\",\"email\":\"" + token + "@example.com\",\"name\":\"Load Test\"}";
+        } else {
+            status = 401;
+            body = "{\"error\":\"invalid_token\"}";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
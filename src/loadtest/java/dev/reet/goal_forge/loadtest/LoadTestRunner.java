@@ -0,0 +1,220 @@
+package dev.reet.goal_forge.loadtest;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.reet.goal_forge.loadtest.SyntheticDataGenerator.SyntheticUser;
+import dev.reet.goal_forge.service.JwtService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed-traffic load test against a running instance. Seeds synthetic data, mints JWTs with
+ * JwtService, serves a Google userinfo stub, then runs virtual users for a fixed duration and
+ * prints throughput, latency percentiles and error rates per route.
+ *
+ * Configured through system properties (defaults in brackets):
+ * loadtest.base-url [http://localhost:8080], loadtest.mongo-uri [mongodb://localhost:27017],
+ * loadtest.database [goal_tracker], loadtest.jwt-secret [$JWT_SECRET], loadtest.users [200],
+ * loadtest.goals-per-user [12], loadtest.concurrency [64], loadtest.duration-seconds [60],
+ * loadtest.think-ms [50], loadtest.stub-port [18081], loadtest.seed [42],
+ * loadtest.mix [dashboard=50,progress=30,reorder=8,export=5,import=3,login=4].
+ */
+public class LoadTestRunner {
+    private final String baseUrl;
+    private final long thinkMillis;
+    private final List<SyntheticUser> users;
+    private final List<String> tokens;
+    private final Map<String, Integer> mix;
+    private final int totalWeight;
+    private final long seed;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final RouteStats stats = new RouteStats();
+
+    LoadTestRunner(String baseUrl, long thinkMillis, List<SyntheticUser> users, List<String> tokens, Map<String, Integer> mix, long seed) {
+        this.baseUrl = baseUrl;
+        this.thinkMillis = thinkMillis;
+        this.users = users;
+        this.tokens = tokens;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = property("loadtest.base-url", "http://localhost:8080");
+        String mongoUri = property("loadtest.mongo-uri", "mongodb://localhost:27017");
+        String database = property("loadtest.database", "goal_tracker");
+        String jwtSecret = property("loadtest.jwt-secret", System.getenv("JWT_SECRET"));
+        int userCount = Integer.parseInt(property("loadtest.users", "200"));
+        int goalsPerUser = Integer.parseInt(property("loadtest.goals-per-user", "12"));
+        int concurrency = Integer.parseInt(property("loadtest.concurrency", "64"));
+        int durationSeconds = Integer.parseInt(property("loadtest.duration-seconds", "60"));
+        long thinkMillis = Long.parseLong(property("loadtest.think-ms", "50"));
+        int stubPort = Integer.parseInt(property("loadtest.stub-port", "18081"));
+        long seed = Long.parseLong(property("loadtest.seed", "42"));
+        Map<String, Integer> mix = parseMix(property("loadtest.mix", "dashboard=50,progress=30,reorder=8,export=5,import=3,login=4"));
+        if (jwtSecret == null) {
+            throw new IllegalArgumentException("Set loadtest.jwt-secret or JWT_SECRET to the application's secret");
+        }
+
+        List<SyntheticUser> users;
+        try (MongoClient mongoClient = MongoClients.create(mongoUri)) {
+            long start = System.nanoTime();
+            users = new SyntheticDataGenerator(new MongoTemplate(mongoClient, database), seed).generate(userCount, goalsPerUser);
+            System.out.printf("Seeded %d users x %d goals in %d ms%n", userCount, goalsPerUser,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        JwtService jwtService = new JwtService(jwtSecret);
+        List<String> tokens = users.stream().map(u -> jwtService.generateToken(u.id(), u.email())).toList();
+
+        try (GoogleUserInfoStub ignored = new GoogleUserInfoStub(stubPort)) {
+            new LoadTestRunner(baseUrl, thinkMillis, users, tokens, mix, seed).run(concurrency, durationSeconds);
+        }
+    }
+
+    void run(int concurrency, int durationSeconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int vu = 0; vu < concurrency; vu++) {
+                int first = vu;
+                executor.submit(() -> virtualUser(first, concurrency, deadline));
+            }
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%nRan %d virtual users for %.1f s against %s%n", concurrency, elapsed, baseUrl);
+        stats.report(System.out, elapsed);
+    }
+
+    // Each virtual user cycles through its own slice of the synthetic users, with its own seeded Random
+    private void virtualUser(int first, int stride, long deadline) {
+        Random random = new Random(seed + first);
+        int index = first % users.size();
+        while (System.nanoTime() < deadline) {
+            SyntheticUser user = users.get(index);
+            String token = tokens.get(index);
+            try {
+                switch (pickScenario(random)) {
+                    case "progress" -> postProgress(user, token, random);
+                    case "reorder" -> reorder(user, token, random);
+                    case "export" -> export(token);
+                    case "import" -> importGoals(token);
+                    case "login" -> login(user);
+                    default -> send("GET /goals", get("/api/goals", token));
+                }
+                if (thinkMillis > 0) {
+                    Thread.sleep(random.nextLong(thinkMillis * 2 + 1));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            index = (index + stride) % users.size();
+        }
+    }
+
+    private void postProgress(SyntheticUser user, String token, Random random) throws InterruptedException {
+        if (user.activeGoalIds().isEmpty()) {
+            send("GET /goals", get("/api/goals", token));
+            return;
+        }
+        String goalId = user.activeGoalIds().get(random.nextInt(user.activeGoalIds().size()));
+        String body = "{\"date\":\"" + LocalDate.now(ZoneId.systemDefault()) + "\",\"effort\":" + (1 + random.nextInt(10)) + "}";
+        send("POST /progress", json("POST", "/api/goals/" + goalId + "/progress", token, body));
+    }
+
+    private void reorder(SyntheticUser user, String token, Random random) throws InterruptedException {
+        List<String> goalIds = new ArrayList<>(user.goalIds());
+        Collections.shuffle(goalIds, random);
+        String body = "{\"goalIds\":[\"" + String.join("\",\"", goalIds) + "\"]}";
+        send("PUT /reorder", json("PUT", "/api/goals/reorder", token, body));
+    }
+
+    private String export(String token) throws InterruptedException {
+        HttpResponse<String> response = send("GET /export", get("/api/goals/export", token));
+        return response != null && response.statusCode() == 200 ? response.body() : null;
+    }
+
+    // Re-imports the user's own export with reset, which keeps the dataset stable across iterations
+    private void importGoals(String token) throws InterruptedException {
+        String exported = export(token);
+        if (exported != null) {
+            send("POST /import", json("POST", "/api/goals/import", token, "{\"mode\":\"reset\",\"goals\":" + exported + "}"));
+        }
+    }
+
+    private void login(SyntheticUser user) throws InterruptedException {
+        send("POST /auth/google", json("POST", "/auth/google", null, "{\"accessToken\":\"" + user.googleId() + "\"}"));
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest json(String method, String path, String token, String body) {
+        return request(path, token)
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(String route, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(route, response.statusCode(), (System.nanoTime() - start) / 1000);
+            return response;
+        } catch (java.io.IOException e) {
+            stats.record(route, 0, (System.nanoTime() - start) / 1000);
+            return null;
+        }
+    }
+
+    private String pickScenario(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return "dashboard";
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            mix.put(kv[0], Integer.parseInt(kv[1]));
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(name, defaultValue);
+    }
+}
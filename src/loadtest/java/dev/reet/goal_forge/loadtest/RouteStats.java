@@ -0,0 +1,56 @@
+package dev.reet.goal_forge.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Latency samples and status counts per route, summarised once the run ends. */
+public class RouteStats {
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    public void record(String route, int status, long latencyMicros) {
+        routes.computeIfAbsent(route, r -> new Route()).record(status, latencyMicros);
+    }
+
+    public void report(PrintStream out, double elapsedSeconds) {
+        out.printf("%-22s %9s %9s %9s %9s %9s %9s %8s  %s%n",
+            "route", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors", "statuses");
+        new TreeMap<>(routes).forEach((name, route) -> route.report(out, name, elapsedSeconds));
+    }
+
+    private static final class Route {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+
+        synchronized void record(int status, long latencyMicros) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyMicros;
+            statuses.merge(status, 1, Integer::sum);
+            if (status < 200 || status >= 300) {
+                errors++;
+            }
+        }
+
+        synchronized void report(PrintStream out, String name, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            out.printf("%-22s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7.2f%%  %s%n",
+                name, count, count / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                count == 0 ? 0.0 : sorted[count - 1] / 1000.0,
+                count == 0 ? 0.0 : 100.0 * errors / count, statuses);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0.0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1000.0;
+        }
+    }
+}
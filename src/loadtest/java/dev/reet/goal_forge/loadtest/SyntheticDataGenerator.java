@@ -0,0 +1,110 @@
+package dev.reet.goal_forge.loadtest;
+
+import dev.reet.goal_forge.model.Goal;
+import dev.reet.goal_forge.model.User;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds synthetic users and goals straight into Mongo through the application's own mappings.
+ * Calendar sizes are skewed like real usage: most goals have a few weeks of entries,
+ * some several months, a few more than a year. Output is deterministic for a given seed.
+ */
+public class SyntheticDataGenerator {
+    static final String GOOGLE_ID_PREFIX = "loadtest-";
+
+    public record SyntheticUser(String id, String googleId, String email, List<String> goalIds, List<String> activeGoalIds) {}
+
+    private final MongoTemplate mongoTemplate;
+    private final Random random;
+
+    public SyntheticDataGenerator(MongoTemplate mongoTemplate, long seed) {
+        this.mongoTemplate = mongoTemplate;
+        this.random = new Random(seed);
+    }
+
+    /** Removes data from previous runs, then inserts users with goalsPerUser goals each. */
+    public List<SyntheticUser> generate(int userCount, int goalsPerUser) {
+        clear();
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        List<SyntheticUser> users = new ArrayList<>(userCount);
+        for (int u = 0; u < userCount; u++) {
+            User user = new User();
+            user.setGoogleId(GOOGLE_ID_PREFIX + u);
+            user.setEmail(GOOGLE_ID_PREFIX + u + "@example.com");
+            user.setName("Load Test " + u);
+            user = mongoTemplate.insert(user);
+
+            List<Goal> goals = new ArrayList<>(goalsPerUser);
+            for (int g = 0; g < goalsPerUser; g++) {
+                goals.add(goal(user.getId(), g, today));
+            }
+            List<String> goalIds = new ArrayList<>();
+            List<String> activeGoalIds = new ArrayList<>();
+            for (Goal goal : mongoTemplate.insert(goals, Goal.class)) {
+                goalIds.add(goal.getId());
+                if ("ACTIVE".equals(goal.getStatus())) {
+                    activeGoalIds.add(goal.getId());
+                }
+            }
+            users.add(new SyntheticUser(user.getId(), user.getGoogleId(), user.getEmail(), goalIds, activeGoalIds));
+        }
+        return users;
+    }
+
+    private void clear() {
+        Query syntheticUsers = Query.query(Criteria.where("googleId").regex("^" + GOOGLE_ID_PREFIX));
+        List<String> userIds = mongoTemplate.find(syntheticUsers, User.class).stream().map(User::getId).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("userId").in(userIds)), Goal.class);
+        mongoTemplate.remove(syntheticUsers, User.class);
+    }
+
+    private Goal goal(String userId, int index, LocalDate today) {
+        boolean duration = random.nextDouble() < 0.6;
+        double roll = random.nextDouble();
+        String status = roll < 0.7 ? "ACTIVE" : roll < 0.8 ? "PAUSED" : roll < 0.9 ? "NOT_STARTED" : "COMPLETED";
+
+        Goal goal = new Goal();
+        goal.setUserId(userId);
+        goal.setGoalName((duration ? "Practice " : "Finish ") + index);
+        goal.setProgressType(duration ? "dur" : "cnt");
+        goal.setStatus(status);
+        goal.setDisplayOrder(index);
+
+        int days = "NOT_STARTED".equals(status) ? 0 : calendarDays();
+        double invested = 0;
+        for (int d = days; d > 0; d--) {
+            if (random.nextDouble() < 0.65) {
+                double effort = duration ? 15 + random.nextInt(226) : 1 + random.nextInt(20);
+                goal.getProgressCalendar().put(today.minusDays(d).toString(), effort);
+                invested += effort;
+            }
+        }
+        // Leave headroom so progress posts for today are accepted
+        double estimated = Math.max(invested * (1.2 + random.nextDouble() * 1.8), duration ? 6000 : 500);
+        goal.setEstimatedEffort(Math.rint(estimated));
+        goal.setInvestedEffort(invested);
+        goal.setRemainingEffort(goal.getEstimatedEffort() - invested);
+        if (!"NOT_STARTED".equals(status)) {
+            goal.setStartDate(today.minusDays(days));
+        }
+        if ("COMPLETED".equals(status)) {
+            goal.setCompletedDate(today.minusDays(random.nextInt(60)));
+        }
+        return goal;
+    }
+
+    private int calendarDays() {
+        double roll = random.nextDouble();
+        if (roll < 0.70) return 1 + random.nextInt(30);
+        if (roll < 0.95) return 30 + random.nextInt(150);
+        return 180 + random.nextInt(550);
+    }
+}
@@ -1,9 +1,12 @@
 package dev.reet.goal_forge;
 
+import dev.reet.goal_forge.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class GoalForgeApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,19 @@
+package dev.reet.goal_forge.config;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoLatencyTracker mongoLatencyTracker() {
+        return new MongoLatencyTracker();
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoLatencyListener(MongoLatencyTracker mongoLatencyTracker) {
+        return builder -> builder.addCommandListener(mongoLatencyTracker);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.reet.goal_forge.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exponentially weighted moving average of Mongo command latency, fed by the driver's
+ * command events. Read by the admission filter to decide when to shed load.
+ */
+public class MongoLatencyTracker implements CommandListener {
+    private static final double ALPHA = 0.1;
+
+    private final AtomicLong averageMicrosBits = new AtomicLong(Double.doubleToLongBits(0.0));
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event.getElapsedTime(TimeUnit.MICROSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event.getElapsedTime(TimeUnit.MICROSECONDS));
+    }
+
+    public double getAverageMillis() {
+        return Double.longBitsToDouble(averageMicrosBits.get()) / 1000.0;
+    }
+
+    private void record(long micros) {
+        while (true) {
+            long bits = averageMicrosBits.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = current == 0.0 ? micros : current + ALPHA * (micros - current);
+            if (averageMicrosBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package dev.reet.goal_forge.config;
+
+import dev.reet.goal_forge.model.Goal;
+import dev.reet.goal_forge.model.ProgressCalendarDeserializer;
+import dev.reet.goal_forge.model.User;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reflection hints for the native image (-Pnative). Spring AOT covers beans and repositories,
+ * but Jackson binds Goal/User through their Lombok accessors, instantiates the calendar
+ * deserializer from its annotation, and jjwt 0.9.x creates its impl classes reflectively.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+    private static final String[] JJWT_TYPES = {
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParser",
+        "io.jsonwebtoken.impl.DefaultClaims",
+        "io.jsonwebtoken.impl.DefaultHeader",
+        "io.jsonwebtoken.impl.DefaultJwsHeader",
+        "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> model : new Class<?>[] { Goal.class, User.class }) {
+            hints.reflection().registerType(model,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS);
+        }
+        hints.reflection().registerType(ProgressCalendarDeserializer.class,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_PUBLIC_METHODS);
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.reet.goal_forge.config;
 
+import dev.reet.goal_forge.security.AdmissionControlFilter;
 import dev.reet.goal_forge.security.JwtAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +13,8 @@ import org.springframework.context.annotation.Bean;
 public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
 
     @Bean
     @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -19,6 +22,16 @@ public class SecurityConfig {
         FilterRegistrationBean<JwtAuthenticationFilter> registrationBean = new FilterRegistrationBean<>();
         registrationBean.setFilter(jwtAuthenticationFilter);
         registrationBean.addUrlPatterns("/api/*"); // Protect API endpoints
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionFilter() {
+        FilterRegistrationBean<AdmissionControlFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(admissionControlFilter);
+        registrationBean.addUrlPatterns("/api/*"); // Needs the userId set by the JWT filter
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
         return registrationBean;
     }
 }
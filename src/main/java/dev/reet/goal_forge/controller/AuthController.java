@@ -26,13 +26,16 @@ public class AuthController {
     @Value("${GOOGLE_CLIENT_SECRET}")
     private String googleClientSecret;
 
+    @Value("${goalforge.google.userinfo-uri}")
+    private String googleUserInfoUri;
+
     // POST /auth/google { accessToken: string }
     @PostMapping(value = "/google", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<?> googleAuth(@RequestBody Map<String, String> body) {
         String accessToken = body.get("accessToken");
         try {
             // Use Google People API to get user info from access token
-            java.net.URL url = new java.net.URL("https://www.googleapis.com/oauth2/v3/userinfo?access_token=" + accessToken);
+            java.net.URL url = new java.net.URL(googleUserInfoUri + "?access_token=" + accessToken);
             java.net.HttpURLConnection conn = (java.net.HttpURLConnection) url.openConnection();
             conn.setRequestMethod("GET");
             conn.setRequestProperty("Accept", "application/json");
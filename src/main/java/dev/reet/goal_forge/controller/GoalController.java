@@ -1,14 +1,22 @@
 package dev.reet.goal_forge.controller;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.reet.goal_forge.exception.GoalNotFoundException;
 import dev.reet.goal_forge.model.Goal;
+import dev.reet.goal_forge.service.GoalArchiveService;
 import dev.reet.goal_forge.service.GoalService;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -16,10 +24,22 @@ import java.util.Map;
 @RequestMapping("/api/goals")
 public class GoalController {
 
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final List<MediaType> EXPORT_TYPES = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
     private final GoalService goalService;
+    private final GoalArchiveService goalArchiveService;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
 
-    public GoalController(GoalService goalService) {
+    public GoalController(GoalService goalService,
+                          GoalArchiveService goalArchiveService,
+                          MappingJackson2CborHttpMessageConverter cborConverter,
+                          MappingJackson2SmileHttpMessageConverter smileConverter) {
         this.goalService = goalService;
+        this.goalArchiveService = goalArchiveService;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.smileMapper = smileConverter.getObjectMapper();
     }
 
     @PostMapping
@@ -61,8 +81,25 @@ public class GoalController {
     }
 
     @GetMapping
-    public List<Goal> getAllGoals(@RequestAttribute String userId) {
-        return goalService.getGoals(userId);
+    public List<Goal> getAllGoals(@RequestAttribute String userId,
+                                  @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return includeArchived ? goalService.getGoalsIncludingArchived(userId) : goalService.getGoals(userId);
+    }
+
+    @GetMapping("/{id}")
+    public Goal getGoal(@PathVariable String id, @RequestAttribute String userId) {
+        return goalService.getGoal(id, userId)
+            .orElseThrow(() -> new GoalNotFoundException("Goal not found or doesn't belong to user: " + id));
+    }
+
+    @GetMapping("/archived")
+    public List<Goal> getArchivedGoals(@RequestAttribute String userId) {
+        return goalArchiveService.getArchivedGoals(userId);
+    }
+
+    @PostMapping("/{id}/restore")
+    public Goal restoreGoal(@PathVariable String id, @RequestAttribute String userId) {
+        return goalArchiveService.restoreGoal(id, userId);
     }
 
     // Upload goals with mode: append or reset
@@ -87,10 +124,18 @@ public class GoalController {
         return goalService.saveAllGoals(goals);
     }
 
-    // Export all user goals as downloadable JSON file
+    // Export all user goals as downloadable file: pretty JSON by default, CBOR or Smile when requested via Accept
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportGoals(@RequestAttribute String userId) throws Exception {
+    public ResponseEntity<byte[]> exportGoals(@RequestAttribute String userId,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws Exception {
         List<Goal> goals = goalService.getGoals(userId);
+        MediaType exportType = selectExportType(accept);
+        if (exportType == MediaType.APPLICATION_CBOR) {
+            return binaryExport(cborMapper.writeValueAsBytes(goals), MediaType.APPLICATION_CBOR, "goals.cbor");
+        }
+        if (exportType == APPLICATION_SMILE) {
+            return binaryExport(smileMapper.writeValueAsBytes(goals), APPLICATION_SMILE, "goals.sml");
+        }
         com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
         mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
         byte[] jsonBytes = mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(goals);
@@ -100,6 +145,38 @@ public class GoalController {
         return ResponseEntity.ok().headers(headers).body(jsonBytes);
     }
 
+    // Highest-q acceptable export format; ties keep header order, wildcards and bad headers get JSON
+    private MediaType selectExportType(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() <= 0) {
+                continue;
+            }
+            for (MediaType candidate : EXPORT_TYPES) {
+                if (type.includes(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private ResponseEntity<byte[]> binaryExport(byte[] body, MediaType contentType, String filename) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        headers.setContentDispositionFormData("attachment", filename);
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
     // Update goal display order
     @PutMapping("/reorder")
     public List<Goal> reorderGoals(@RequestBody Map<String, List<String>> payload, @RequestAttribute String userId) {
@@ -0,0 +1,25 @@
+package dev.reet.goal_forge.controller;
+
+import dev.reet.goal_forge.model.GlobalStats;
+import dev.reet.goal_forge.service.GlobalStatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final GlobalStatsService globalStatsService;
+
+    public StatsController(GlobalStatsService globalStatsService) {
+        this.globalStatsService = globalStatsService;
+    }
+
+    // Precomputed snapshot, refreshed every goalforge.stats.refresh-ms; requires a logged-in user
+    @GetMapping
+    public GlobalStats getStats(@RequestAttribute String userId) {
+        return globalStatsService.getSnapshot();
+    }
+}
@@ -1,7 +1,16 @@
 package dev.reet.goal_forge.exception;
 
-public class EffortExceedsRemainingException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class EffortExceedsRemainingException extends GoalDomainException {
+    private static final ErrorResponseTemplate ERROR_RESPONSE = ErrorResponseTemplate.of("EffortExceedsRemainingException", HttpStatus.BAD_REQUEST);
+
     public EffortExceedsRemainingException(String message) {
         super(message);
     }
+
+    @Override
+    public ErrorResponseTemplate getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
 }
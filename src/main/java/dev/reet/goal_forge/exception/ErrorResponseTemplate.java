@@ -0,0 +1,62 @@
+package dev.reet.goal_forge.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pre-serialized error body {"error":...,"status":...,"message":...}. Everything but the message
+ * is encoded once, so rendering a rejection is a single array copy plus escaping the message.
+ */
+public final class ErrorResponseTemplate {
+    private static final HttpHeaders JSON_HEADERS;
+    private static final byte[] NULL_MESSAGE = "null}".getBytes(StandardCharsets.UTF_8);
+
+    static {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        JSON_HEADERS = HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    private final HttpStatus status;
+    private final byte[] prefix;
+
+    private ErrorResponseTemplate(String error, HttpStatus status) {
+        this.status = status;
+        this.prefix = ("{\"error\":\"" + new String(JsonStringEncoder.getInstance().quoteAsString(error))
+            + "\",\"status\":" + status.value() + ",\"message\":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static ErrorResponseTemplate of(String error, HttpStatus status) {
+        return new ErrorResponseTemplate(error, status);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public byte[] render(String message) {
+        if (message == null) {
+            byte[] body = new byte[prefix.length + NULL_MESSAGE.length];
+            System.arraycopy(prefix, 0, body, 0, prefix.length);
+            System.arraycopy(NULL_MESSAGE, 0, body, prefix.length, NULL_MESSAGE.length);
+            return body;
+        }
+        byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+        byte[] body = new byte[prefix.length + escaped.length + 3];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        body[prefix.length] = '"';
+        System.arraycopy(escaped, 0, body, prefix.length + 1, escaped.length);
+        body[body.length - 2] = '"';
+        body[body.length - 1] = '}';
+        return body;
+    }
+
+    public ResponseEntity<byte[]> toResponse(String message) {
+        return new ResponseEntity<>(render(message), JSON_HEADERS, status);
+    }
+}
@@ -7,89 +7,37 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
-import java.util.HashMap;
-import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
-    @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(IllegalArgumentException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "InvalidProgressType");
-        body.put("message", ex.getMessage());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
-    }
+    private static final ErrorResponseTemplate INVALID_PROGRESS_TYPE = ErrorResponseTemplate.of("InvalidProgressType", HttpStatus.BAD_REQUEST);
+    private static final ErrorResponseTemplate VALIDATION = ErrorResponseTemplate.of("ValidationException", HttpStatus.BAD_REQUEST);
+    private static final ErrorResponseTemplate MALFORMED_JSON = ErrorResponseTemplate.of("MalformedJsonException", HttpStatus.BAD_REQUEST);
+    private static final ErrorResponseTemplate MISSING_PARAMETER = ErrorResponseTemplate.of("MissingParameterException", HttpStatus.BAD_REQUEST);
 
-    @ExceptionHandler(EffortExceedsRemainingException.class)
-    public ResponseEntity<Map<String, Object>> handleEffortExceedsRemainingException(EffortExceedsRemainingException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "EffortExceedsRemainingException");
-        body.put("message", ex.getMessage());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
-    }
-
-    @ExceptionHandler(PreviousDateEffortException.class)
-    public ResponseEntity<Map<String, Object>> handlePreviousDateEffortException(PreviousDateEffortException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "PreviousDateEffortException");
-        body.put("message", ex.getMessage());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
-    }
-
-    @ExceptionHandler(GoalPausedException.class)
-    public ResponseEntity<Map<String, Object>> handleGoalPausedException(GoalPausedException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "GoalPausedException");
-        body.put("message", ex.getMessage());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
-    }
-
-    @ExceptionHandler(GoalNotStartedException.class)
-    public ResponseEntity<Map<String, Object>> handleGoalNotStartedException(GoalNotStartedException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "GoalNotStartedException");
-        body.put("message", ex.getMessage());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<byte[]> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return INVALID_PROGRESS_TYPE.toResponse(ex.getMessage());
     }
 
-    @ExceptionHandler(GoalNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleGoalNotFoundException(GoalNotFoundException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "GoalNotFoundException");
-        body.put("message", ex.getMessage());
-        body.put("status", HttpStatus.NOT_FOUND.value());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    // GoalNotFound, GoalNotStarted, GoalPaused, PreviousDateEffort, EffortExceedsRemaining
+    @ExceptionHandler(GoalDomainException.class)
+    public ResponseEntity<byte[]> handleGoalDomainException(GoalDomainException ex) {
+        return ex.getErrorResponse().toResponse(ex.getMessage());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationException(MethodArgumentNotValidException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "ValidationException");
-        body.put("message", ex.getBindingResult().getAllErrors().get(0).getDefaultMessage());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    public ResponseEntity<byte[]> handleValidationException(MethodArgumentNotValidException ex) {
+        return VALIDATION.toResponse(ex.getBindingResult().getAllErrors().get(0).getDefaultMessage());
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<Map<String, Object>> handleNotReadableException(HttpMessageNotReadableException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "MalformedJsonException");
-        body.put("message", "Malformed JSON request");
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    public ResponseEntity<byte[]> handleNotReadableException(HttpMessageNotReadableException ex) {
+        return MALFORMED_JSON.toResponse("Malformed JSON request");
     }
 
     @ExceptionHandler(MissingServletRequestParameterException.class)
-    public ResponseEntity<Map<String, Object>> handleMissingParamException(MissingServletRequestParameterException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "MissingParameterException");
-        body.put("message", "Missing required parameter: " + ex.getParameterName());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    public ResponseEntity<byte[]> handleMissingParamException(MissingServletRequestParameterException ex) {
+        return MISSING_PARAMETER.toResponse("Missing required parameter: " + ex.getParameterName());
     }
-}
\ No newline at end of file
+}
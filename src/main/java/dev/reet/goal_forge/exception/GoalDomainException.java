@@ -0,0 +1,13 @@
+package dev.reet.goal_forge.exception;
+
+/**
+ * Base for routine validation failures raised by GoalService. These are expected outcomes,
+ * not bugs, so no stack trace is captured and the handler renders a prebuilt body.
+ */
+public abstract class GoalDomainException extends RuntimeException {
+    protected GoalDomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    public abstract ErrorResponseTemplate getErrorResponse();
+}
@@ -1,7 +1,16 @@
 package dev.reet.goal_forge.exception;
 
-public class GoalNotFoundException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class GoalNotFoundException extends GoalDomainException {
+    private static final ErrorResponseTemplate ERROR_RESPONSE = ErrorResponseTemplate.of("GoalNotFoundException", HttpStatus.NOT_FOUND);
+
     public GoalNotFoundException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ErrorResponseTemplate getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
+}
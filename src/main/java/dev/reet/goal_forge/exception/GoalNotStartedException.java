@@ -1,7 +1,16 @@
 package dev.reet.goal_forge.exception;
 
-public class GoalNotStartedException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class GoalNotStartedException extends GoalDomainException {
+    private static final ErrorResponseTemplate ERROR_RESPONSE = ErrorResponseTemplate.of("GoalNotStartedException", HttpStatus.BAD_REQUEST);
+
     public GoalNotStartedException(String message) {
         super(message);
     }
+
+    @Override
+    public ErrorResponseTemplate getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
 }
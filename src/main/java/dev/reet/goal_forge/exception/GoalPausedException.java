@@ -1,7 +1,16 @@
 package dev.reet.goal_forge.exception;
 
-public class GoalPausedException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class GoalPausedException extends GoalDomainException {
+    private static final ErrorResponseTemplate ERROR_RESPONSE = ErrorResponseTemplate.of("GoalPausedException", HttpStatus.BAD_REQUEST);
+
     public GoalPausedException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ErrorResponseTemplate getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
+}
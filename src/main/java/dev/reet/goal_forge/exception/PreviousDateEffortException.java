@@ -1,7 +1,16 @@
 package dev.reet.goal_forge.exception;
 
-public class PreviousDateEffortException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class PreviousDateEffortException extends GoalDomainException {
+    private static final ErrorResponseTemplate ERROR_RESPONSE = ErrorResponseTemplate.of("PreviousDateEffortException", HttpStatus.BAD_REQUEST);
+
     public PreviousDateEffortException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ErrorResponseTemplate getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.reet.goal_forge.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Document(collection = "goals_archive")
+public class ArchivedGoal {
+    @Id
+    private String id; // Same id as the original Goal
+    private String userId;
+    private String goalName;
+    private String progressType;
+    private double estimatedEffort;
+    private byte[] compressedCalendar; // ProgressCalendarCodec form of progressCalendar
+    private double investedEffort;
+    private double remainingEffort;
+    private LocalDate startDate;
+    private LocalDate completedDate;
+    private String status;
+    private int displayOrder;
+    private Instant archivedAt;
+
+    public static ArchivedGoal from(Goal goal) {
+        ArchivedGoal archived = new ArchivedGoal();
+        archived.setId(goal.getId());
+        archived.setUserId(goal.getUserId());
+        archived.setGoalName(goal.getGoalName());
+        archived.setProgressType(goal.getProgressType());
+        archived.setEstimatedEffort(goal.getEstimatedEffort());
+        archived.setCompressedCalendar(ProgressCalendarCodec.encode(goal.getProgressCalendar()));
+        archived.setInvestedEffort(goal.getInvestedEffort());
+        archived.setRemainingEffort(goal.getRemainingEffort());
+        archived.setStartDate(goal.getStartDate());
+        archived.setCompletedDate(goal.getCompletedDate());
+        archived.setStatus(goal.getStatus());
+        archived.setDisplayOrder(goal.getDisplayOrder());
+        archived.setArchivedAt(Instant.now());
+        return archived;
+    }
+
+    public Goal toGoal() {
+        Goal goal = new Goal();
+        goal.setId(id);
+        goal.setUserId(userId);
+        goal.setGoalName(goalName);
+        goal.setProgressType(progressType);
+        goal.setEstimatedEffort(estimatedEffort);
+        goal.setProgressCalendar(ProgressCalendarCodec.decode(compressedCalendar));
+        goal.setInvestedEffort(investedEffort);
+        goal.setRemainingEffort(remainingEffort);
+        goal.setStartDate(startDate);
+        goal.setCompletedDate(completedDate);
+        goal.setStatus(status);
+        goal.setDisplayOrder(displayOrder);
+        return goal;
+    }
+}
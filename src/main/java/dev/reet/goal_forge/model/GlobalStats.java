@@ -0,0 +1,42 @@
+package dev.reet.goal_forge.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed cross-user statistics. Each instance persists its own counters as one document
+ * keyed by its instance id; GET /api/stats serves the merge of all live instances (id unset).
+ */
+@Data
+@Document(collection = "global_stats")
+public class GlobalStats {
+    @Id
+    private String id;
+    private LocalDate day;
+    private Map<String, Double> effortToday = new HashMap<>(); // progressType -> effort logged today
+    private long progressUpdatesToday;
+    private Map<String, Long> statusChangesToday = new HashMap<>(); // status -> transitions today
+    private String week; // ISO week, e.g. 2025-W31
+    private List<RankedEntry> mostActiveUsersThisWeek = new ArrayList<>(); // value = progress updates
+    private Map<String, List<RankedEntry>> topGoalsByInvestedEffort = new HashMap<>(); // progressType -> goals
+    private Instant updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RankedEntry {
+        private String id; // opaque in the served snapshot
+        private String label; // user id or goal name; null in the served snapshot
+        private double value;
+    }
+}
@@ -22,6 +22,7 @@ public class Goal {
     private double investedEffort = 0.0;
     private double remainingEffort = 0.0;
     private LocalDate startDate; // null until started
+    private LocalDate completedDate; // null until completed, drives archiving
     private String status = "NOT_STARTED"; // NOT_STARTED, ACTIVE, PAUSED, COMPLETED
     private int displayOrder = 0; // For ordering goals in the UI
 }
@@ -0,0 +1,53 @@
+package dev.reet.goal_forge.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact form of a progressCalendar for archived goals: entry count, then (date, effort)
+ * pairs in date order, deflated.
+ */
+public final class ProgressCalendarCodec {
+    private ProgressCalendarCodec() {
+    }
+
+    public static byte[] encode(Map<String, Double> calendar) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            Map<String, Double> sorted = new TreeMap<>(calendar);
+            out.writeInt(sorted.size());
+            for (Map.Entry<String, Double> entry : sorted.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeDouble(entry.getValue() == null ? 0.0 : entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Map<String, Double> decode(byte[] data) {
+        Map<String, Double> calendar = new LinkedHashMap<>();
+        if (data == null || data.length == 0) {
+            return calendar;
+        }
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                calendar.put(in.readUTF(), in.readDouble());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return calendar;
+    }
+}
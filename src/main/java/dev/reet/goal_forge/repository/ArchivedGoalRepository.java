@@ -0,0 +1,10 @@
+package dev.reet.goal_forge.repository;
+
+import java.util.List;
+
+import dev.reet.goal_forge.model.ArchivedGoal;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ArchivedGoalRepository extends MongoRepository<ArchivedGoal, String> {
+    List<ArchivedGoal> findByUserIdOrderByDisplayOrder(String userId);
+}
@@ -0,0 +1,7 @@
+package dev.reet.goal_forge.repository;
+
+import dev.reet.goal_forge.model.GlobalStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface GlobalStatsRepository extends MongoRepository<GlobalStats, String> {
+}
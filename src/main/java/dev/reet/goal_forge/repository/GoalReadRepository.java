@@ -0,0 +1,117 @@
+package dev.reet.goal_forge.repository;
+
+import com.mongodb.ReadPreference;
+import dev.reet.goal_forge.model.ArchivedGoal;
+import dev.reet.goal_forge.model.Goal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only goal queries that may be served by secondaries (secondaryPreferred with a
+ * max-staleness bound). Writes and read-modify-write paths keep using GoalRepository on the primary.
+ *
+ * Read-your-writes: a user whose goals were written within the staleness window reads from the
+ * primary, so a secondary never returns data older than that user's own last write.
+ * Saves are tracked automatically; deletes are reported through markWrite.
+ *
+ * Tracking is bounded by max-tracked-writers: once full, untracked writers are not added and every
+ * read goes to the primary until that write's window has passed. Tracking is also per process, so
+ * the guarantee only holds when a user's reads reach the instance that took the write (sticky load
+ * balancing); otherwise reads may be up to max-staleness-seconds behind.
+ */
+@Component
+public class GoalReadRepository extends AbstractMongoEventListener<Goal> {
+    private static final long MIN_MAX_STALENESS_SECONDS = 90; // lower bound enforced by the driver
+
+    private final MongoTemplate primaryTemplate;
+    private final MongoTemplate secondaryTemplate;
+    private final boolean enabled;
+    private final long stickyNanos;
+    private final int maxTrackedWriters;
+    private final ConcurrentHashMap<String, Long> recentWriters = new ConcurrentHashMap<>();
+    private volatile long overflowUntil = System.nanoTime(); // all reads go to the primary until then
+
+    public GoalReadRepository(MongoTemplate mongoTemplate,
+                              MongoDatabaseFactory mongoDatabaseFactory,
+                              MongoConverter mongoConverter,
+                              @Value("${goalforge.mongo.read-routing.enabled}") boolean enabled,
+                              @Value("${goalforge.mongo.read-routing.max-staleness-seconds}") long maxStalenessSeconds,
+                              @Value("${goalforge.mongo.read-routing.max-tracked-writers}") int maxTrackedWriters) {
+        long staleness = Math.max(MIN_MAX_STALENESS_SECONDS, maxStalenessSeconds);
+        this.primaryTemplate = mongoTemplate;
+        // Not a bean: a second MongoTemplate bean would replace Boot's default one for the repositories
+        this.secondaryTemplate = new MongoTemplate(mongoDatabaseFactory, mongoConverter);
+        this.secondaryTemplate.setReadPreference(ReadPreference.secondaryPreferred(staleness, TimeUnit.SECONDS));
+        this.enabled = enabled;
+        this.stickyNanos = TimeUnit.SECONDS.toNanos(staleness);
+        this.maxTrackedWriters = maxTrackedWriters;
+    }
+
+    public List<Goal> findByUserIdOrderByDisplayOrder(String userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId)).with(Sort.by("displayOrder"));
+        return templateFor(userId).find(query, Goal.class);
+    }
+
+    public List<ArchivedGoal> findArchivedByUserIdOrderByDisplayOrder(String userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId)).with(Sort.by("displayOrder"));
+        return templateFor(userId).find(query, ArchivedGoal.class);
+    }
+
+    /** Pins the user's reads to the primary for the staleness window. */
+    public void markWrite(String userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        long expiry = System.nanoTime() + stickyNanos;
+        if (recentWriters.size() >= maxTrackedWriters && !recentWriters.containsKey(userId)) {
+            if (overflowUntil - System.nanoTime() <= 0) {
+                evictExpiredWriters();
+            }
+            if (recentWriters.size() >= maxTrackedWriters) {
+                // Full of live entries: cover this writer by sending everyone to the primary
+                overflowUntil = expiry;
+                return;
+            }
+        }
+        recentWriters.put(userId, expiry);
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Goal> event) {
+        markWrite(event.getSource().getUserId());
+    }
+
+    @Scheduled(fixedDelayString = "${goalforge.mongo.read-routing.cleanup-ms}")
+    public void evictExpiredWriters() {
+        long now = System.nanoTime();
+        recentWriters.values().removeIf(expiry -> expiry - now < 0);
+    }
+
+    MongoTemplate templateFor(String userId) {
+        if (!enabled) {
+            return primaryTemplate;
+        }
+        long now = System.nanoTime();
+        if (overflowUntil - now > 0) {
+            return primaryTemplate;
+        }
+        Long expiry = recentWriters.get(userId);
+        if (expiry != null && expiry - now > 0) {
+            return primaryTemplate;
+        }
+        return secondaryTemplate;
+    }
+}
@@ -0,0 +1,121 @@
+package dev.reet.goal_forge.security;
+
+import dev.reet.goal_forge.config.MongoLatencyTracker;
+import dev.reet.goal_forge.exception.ErrorResponseTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs after JwtAuthenticationFilter. Applies a per-user token bucket (429) with separate budgets
+ * for light requests and heavy ones (import, export, reorder), then global in-flight limits (503).
+ * Once the Mongo latency average crosses the threshold, heavy requests are shed and the global
+ * limit drops to the degraded value until latency recovers.
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    private static final ErrorResponseTemplate TOO_MANY_REQUESTS = ErrorResponseTemplate.of("TooManyRequests", HttpStatus.TOO_MANY_REQUESTS);
+    private static final ErrorResponseTemplate OVERLOADED = ErrorResponseTemplate.of("ServiceOverloaded", HttpStatus.SERVICE_UNAVAILABLE);
+
+    private final StripedTokenBucket lightBucket;
+    private final StripedTokenBucket heavyBucket;
+    private final MongoLatencyTracker mongoLatencyTracker;
+    private final int maxConcurrent;
+    private final int maxConcurrentHeavy;
+    private final int degradedConcurrent;
+    private final double latencyThresholdMillis;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger heavyInFlight = new AtomicInteger();
+
+    public AdmissionControlFilter(MongoLatencyTracker mongoLatencyTracker,
+                                  @Value("${goalforge.admission.stripes}") int stripes,
+                                  @Value("${goalforge.admission.light.burst}") int lightBurst,
+                                  @Value("${goalforge.admission.light.per-second}") double lightPerSecond,
+                                  @Value("${goalforge.admission.heavy.burst}") int heavyBurst,
+                                  @Value("${goalforge.admission.heavy.per-second}") double heavyPerSecond,
+                                  @Value("${goalforge.admission.max-concurrent}") int maxConcurrent,
+                                  @Value("${goalforge.admission.max-concurrent-heavy}") int maxConcurrentHeavy,
+                                  @Value("${goalforge.admission.degraded-concurrent}") int degradedConcurrent,
+                                  @Value("${goalforge.admission.mongo-latency-threshold-ms}") double latencyThresholdMillis) {
+        this.mongoLatencyTracker = mongoLatencyTracker;
+        this.lightBucket = new StripedTokenBucket(stripes, lightBurst, lightPerSecond);
+        this.heavyBucket = new StripedTokenBucket(stripes, heavyBurst, heavyPerSecond);
+        this.maxConcurrent = maxConcurrent;
+        this.maxConcurrentHeavy = maxConcurrentHeavy;
+        this.degradedConcurrent = degradedConcurrent;
+        this.latencyThresholdMillis = latencyThresholdMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Keep the platform health check answering while shedding
+        return request.getRequestURI().endsWith("/api/ping");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean heavy = isHeavy(request);
+        Object userId = request.getAttribute("userId");
+        String key = userId != null ? userId.toString() : "ip:" + request.getRemoteAddr();
+
+        long waitMillis = (heavy ? heavyBucket : lightBucket).tryAcquire(key);
+        if (waitMillis > 0) {
+            reject(response, TOO_MANY_REQUESTS, "Request rate limit exceeded", waitMillis);
+            return;
+        }
+
+        boolean degraded = mongoLatencyTracker.getAverageMillis() > latencyThresholdMillis;
+        if (heavy && degraded) {
+            reject(response, OVERLOADED, "Heavy operations are temporarily unavailable", 5000);
+            return;
+        }
+        int limit = degraded ? degradedConcurrent : maxConcurrent;
+        if (inFlight.incrementAndGet() > limit) {
+            inFlight.decrementAndGet();
+            reject(response, OVERLOADED, "Server is busy, retry later", 1000);
+            return;
+        }
+        try {
+            if (heavy) {
+                if (heavyInFlight.incrementAndGet() > maxConcurrentHeavy) {
+                    heavyInFlight.decrementAndGet();
+                    reject(response, OVERLOADED, "Too many heavy operations in progress", 1000);
+                    return;
+                }
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    heavyInFlight.decrementAndGet();
+                }
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private boolean isHeavy(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.endsWith("/goals/import") || path.endsWith("/goals/export") || path.endsWith("/goals/reorder");
+    }
+
+    private void reject(HttpServletResponse response, ErrorResponseTemplate template, String message, long retryAfterMillis)
+            throws IOException {
+        response.setStatus(template.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(template.render(message));
+    }
+}
@@ -0,0 +1,116 @@
+package dev.reet.goal_forge.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token-bucket limiter over a fixed array of stripes, so memory stays at 8 bytes per
+ * stripe no matter how many users exist. Like a count-min sketch, each key maps to several
+ * independent stripes: a request is charged to all of them and denied only when every one is empty,
+ * so a key sharing one stripe with an abusive key keeps its budget through the others.
+ * Each stripe packs its last refill time (ms, upper 40 bits) and tokens (milli-tokens, lower 24 bits)
+ * into one long that is updated with CAS.
+ */
+public class StripedTokenBucket {
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long ONE_TOKEN = 1000;
+    private static final int STRIPES_PER_KEY = 4;
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final long capacity;
+    private final double refillPerMs;
+    private final LongSupplier clockMillis;
+
+    /**
+     * @param stripeCount number of stripes, rounded up to a power of two
+     * @param burst maximum tokens a key can accumulate (at most 16777)
+     * @param permitsPerSecond sustained refill rate per key
+     */
+    public StripedTokenBucket(int stripeCount, int burst, double permitsPerSecond) {
+        this(stripeCount, burst, permitsPerSecond, monotonicMillis());
+    }
+
+    // clockMillis must be monotonic and start above 0, so packed state is never 0 once written
+    StripedTokenBucket(int stripeCount, int burst, double permitsPerSecond, LongSupplier clockMillis) {
+        if (burst <= 0 || burst * ONE_TOKEN > TOKEN_MASK) {
+            throw new IllegalArgumentException("burst must be between 1 and " + TOKEN_MASK / ONE_TOKEN);
+        }
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacity = burst * ONE_TOKEN;
+        this.refillPerMs = permitsPerSecond; // milli-tokens per millisecond == tokens per second
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * Takes one token for the key.
+     * Returns 0 when admitted, otherwise the milliseconds until a token becomes available.
+     */
+    public long tryAcquire(String key) {
+        int h1 = spread(key.hashCode());
+        int h2 = spread(h1 ^ 0x9e3779b9) | 1;
+        long now = clockMillis.getAsLong();
+        long best = 0;
+        for (int i = 0; i < STRIPES_PER_KEY; i++) {
+            best = Math.max(best, tokensAt(stripes.get((h1 + i * h2) & mask), now));
+        }
+        if (best < ONE_TOKEN) {
+            return Math.max(1, (long) Math.ceil((ONE_TOKEN - best) / refillPerMs));
+        }
+        for (int i = 0; i < STRIPES_PER_KEY; i++) {
+            take((h1 + i * h2) & mask, now);
+        }
+        return 0;
+    }
+
+    // Charges one token to the stripe, flooring at zero so stripes drained by other keys stay usable
+    private void take(int index, long now) {
+        while (true) {
+            long state = stripes.get(index);
+            long tokens = Math.max(0, tokensAt(state, now) - ONE_TOKEN);
+            // A retry may carry an older now than the winning writer; never move the timestamp back
+            long next = (Math.max(now, state >>> TOKEN_BITS) << TOKEN_BITS) | tokens;
+            if (stripes.compareAndSet(index, state, next)) {
+                return;
+            }
+        }
+    }
+
+    /** The stripe indexes charged for the key; exposed for tests. */
+    int[] stripesFor(String key) {
+        int h1 = spread(key.hashCode());
+        int h2 = spread(h1 ^ 0x9e3779b9) | 1;
+        int[] indexes = new int[STRIPES_PER_KEY];
+        for (int i = 0; i < STRIPES_PER_KEY; i++) {
+            indexes[i] = (h1 + i * h2) & mask;
+        }
+        return indexes;
+    }
+
+    private long tokensAt(long state, long now) {
+        if (state == 0) {
+            return capacity;
+        }
+        long last = state >>> TOKEN_BITS;
+        long elapsed = Math.max(0, now - last);
+        return Math.min(capacity, (state & TOKEN_MASK) + (long) (elapsed * refillPerMs));
+    }
+
+    private static LongSupplier monotonicMillis() {
+        long epochNanos = System.nanoTime() - 1_000_000; // keeps packed timestamps > 0
+        return () -> (System.nanoTime() - epochNanos) / 1_000_000;
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h;
+    }
+}
@@ -0,0 +1,378 @@
+package dev.reet.goal_forge.service;
+
+import dev.reet.goal_forge.model.GlobalStats;
+import dev.reet.goal_forge.model.GlobalStats.RankedEntry;
+import dev.reet.goal_forge.model.Goal;
+import dev.reet.goal_forge.repository.GlobalStatsRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Cross-user statistics maintained incrementally from GoalService writes, so nothing scans
+ * the goals collection. Counters are lock-free adders rotated per day/week; rankings are
+ * bounded TopKSketch instances. The write path never touches a sketch: per-user activity and
+ * per-goal effort go to ConcurrentHashMap buffers (per-key merge/put, no shared lock) that are
+ * folded into the sketches on the refresh and persist ticks.
+ *
+ * Each instance persists only its own counters, to a global_stats document keyed by its instance id,
+ * periodically and on shutdown. The served snapshot merges the local counters with the documents of
+ * the other live instances, which are reloaded on every persist, so numbers from another instance lag
+ * by up to one persist interval. Documents of instances that stopped persisting are adopted (removed
+ * atomically and added to the local counters) by whichever instance finds them first.
+ *
+ * The served snapshot never contains user ids, goal ids or goal names: ranked entries carry an opaque
+ * id (a truncated HMAC of the real id keyed with the JWT secret, so it is stable across instances) and
+ * no label.
+ */
+@Service
+public class GlobalStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalStatsService.class);
+    private static final int SKETCH_FACTOR = 4;
+    private static final String OPAQUE_ID_ALGORITHM = "HmacSHA256";
+
+    private final GlobalStatsRepository globalStatsRepository;
+    private final MongoTemplate mongoTemplate;
+    private final int topK;
+    private final long instanceTimeoutMillis;
+    private final SecretKeySpec opaqueIdKey;
+    private final String instanceId = System.getenv().getOrDefault("HOSTNAME", "instance") + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicReference<DayCounters> day = new AtomicReference<>();
+    private final AtomicReference<WeekCounters> week = new AtomicReference<>();
+    private final Map<String, TopKSketch> topGoals = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, RankedEntry>> pendingGoals = new ConcurrentHashMap<>(); // type -> latest per goal
+    private volatile List<GlobalStats> peers = List.of();
+    private volatile GlobalStats snapshot = new GlobalStats();
+
+    public GlobalStatsService(GlobalStatsRepository globalStatsRepository,
+                              MongoTemplate mongoTemplate,
+                              @Value("${goalforge.stats.top-k}") int topK,
+                              @Value("${goalforge.stats.instance-timeout-ms}") long instanceTimeoutMillis,
+                              @Value("${JWT_SECRET}") String secretKey) {
+        this.globalStatsRepository = globalStatsRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.topK = topK;
+        this.instanceTimeoutMillis = instanceTimeoutMillis;
+        this.opaqueIdKey = new SecretKeySpec(("goalforge-stats:" + secretKey).getBytes(StandardCharsets.UTF_8), OPAQUE_ID_ALGORITHM);
+        LocalDate today = today();
+        day.set(new DayCounters(today));
+        week.set(new WeekCounters(isoWeek(today), topK * SKETCH_FACTOR));
+    }
+
+    /** Loads the other instances' numbers off the main thread once the app is ready, so startup never waits on Mongo. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncAsync() {
+        CompletableFuture.runAsync(this::syncWithPeers);
+    }
+
+    /** Called for every accepted progress update; delta is the change in that day's effort. */
+    public void recordProgress(Goal goal, double delta) {
+        String type = goal.getProgressType() == null ? "unknown" : goal.getProgressType();
+        DayCounters counters = currentDay();
+        counters.effort(type).add(delta);
+        counters.progressUpdates.increment();
+        if (goal.getUserId() != null) {
+            currentWeek().pendingActivity.merge(goal.getUserId(), 1L, Long::sum);
+        }
+        pendingGoals.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+            .put(goal.getId(), new RankedEntry(goal.getId(), goal.getGoalName(), goal.getInvestedEffort()));
+    }
+
+    /**
+     * Called when a goal is deleted or archived, so it leaves the invested-effort rankings.
+     * Copies held in other instances' documents are dropped at the next persist.
+     */
+    public void removeGoal(String goalId) {
+        pendingGoals.values().forEach(buffer -> buffer.remove(goalId));
+        topGoals.values().forEach(sketch -> sketch.remove(goalId));
+    }
+
+    /** Called for every status transition (start, pause, resume, complete). */
+    public void recordStatusChange(Goal goal) {
+        currentDay().statusChange(goal.getStatus()).increment();
+    }
+
+    /**
+     * Route: GET /api/stats
+     * Description: Returns the latest precomputed snapshot.
+     */
+    public GlobalStats getSnapshot() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${goalforge.stats.refresh-ms}")
+    public void refreshSnapshot() {
+        GlobalStats local = localStats();
+        List<GlobalStats> sources = new ArrayList<>(peers);
+        // Oldest first, so the newest value of a goal seen by several instances wins
+        sources.sort(Comparator.comparing(GlobalStats::getUpdatedAt));
+        sources.add(local);
+
+        GlobalStats next = new GlobalStats();
+        next.setDay(local.getDay());
+        next.setWeek(local.getWeek());
+        Map<String, RankedEntry> activeUsers = new HashMap<>();
+        Map<String, Map<String, RankedEntry>> goals = new HashMap<>();
+        for (GlobalStats source : sources) {
+            if (local.getDay().equals(source.getDay())) {
+                source.getEffortToday().forEach((type, effort) -> next.getEffortToday().merge(type, effort, Double::sum));
+                next.setProgressUpdatesToday(next.getProgressUpdatesToday() + source.getProgressUpdatesToday());
+                source.getStatusChangesToday().forEach((status, count) -> next.getStatusChangesToday().merge(status, count, Long::sum));
+            }
+            if (local.getWeek().equals(source.getWeek())) {
+                source.getMostActiveUsersThisWeek().forEach(e -> activeUsers.merge(e.getId(), e,
+                    (a, b) -> new RankedEntry(a.getId(), a.getLabel(), a.getValue() + b.getValue())));
+            }
+            source.getTopGoalsByInvestedEffort().forEach((type, entries) ->
+                entries.forEach(e -> goals.computeIfAbsent(type, t -> new HashMap<>()).put(e.getId(), e)));
+        }
+        next.setMostActiveUsersThisWeek(publicTop(activeUsers.values()));
+        Map<String, List<RankedEntry>> topGoalsByType = new HashMap<>();
+        goals.forEach((type, byId) -> topGoalsByType.put(type, publicTop(byId.values())));
+        next.setTopGoalsByInvestedEffort(topGoalsByType);
+        next.setUpdatedAt(local.getUpdatedAt());
+        snapshot = next;
+    }
+
+    @Scheduled(fixedDelayString = "${goalforge.stats.persist-ms}", initialDelayString = "${goalforge.stats.persist-ms}")
+    public void persist() {
+        globalStatsRepository.save(localStats());
+        syncWithPeers();
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        try {
+            globalStatsRepository.save(localStats());
+        } catch (RuntimeException e) {
+            logger.warn("Could not persist global stats on shutdown", e);
+        }
+    }
+
+    /**
+     * Reloads the other instances' documents, adopts those not updated within the instance timeout
+     * and drops leaderboard entries whose goal no longer exists in "goals" (deleted or archived).
+     */
+    private synchronized void syncWithPeers() {
+        try {
+            Instant cutoff = Instant.now().minusMillis(instanceTimeoutMillis);
+            List<GlobalStats> live = new ArrayList<>();
+            boolean adopted = false;
+            for (GlobalStats doc : globalStatsRepository.findAll()) {
+                if (instanceId.equals(doc.getId())) {
+                    continue;
+                }
+                if (doc.getUpdatedAt() == null || doc.getUpdatedAt().isBefore(cutoff)) {
+                    adopted |= adopt(doc);
+                } else {
+                    live.add(doc);
+                }
+            }
+            dropMissingGoals(live);
+            if (adopted) {
+                // Make the adopted counts visible to the other instances right away
+                globalStatsRepository.save(localStats());
+            }
+            peers = live;
+        } catch (RuntimeException e) {
+            // Stats are best-effort; keep serving local and previously loaded numbers
+            logger.warn("Could not sync global stats with other instances", e);
+        }
+        refreshSnapshot();
+    }
+
+    // Conditional remove, so a document is adopted by exactly one instance
+    private boolean adopt(GlobalStats orphan) {
+        Query query = Query.query(Criteria.where("_id").is(orphan.getId()).and("updatedAt").is(orphan.getUpdatedAt()));
+        GlobalStats saved = mongoTemplate.findAndRemove(query, GlobalStats.class);
+        if (saved == null) {
+            return false;
+        }
+        DayCounters currentDay = currentDay();
+        if (currentDay.day.equals(saved.getDay())) {
+            saved.getEffortToday().forEach((type, effort) -> currentDay.effort(type).add(effort));
+            currentDay.progressUpdates.add(saved.getProgressUpdatesToday());
+            saved.getStatusChangesToday().forEach((status, count) -> currentDay.statusChange(status).add(count));
+        }
+        WeekCounters currentWeek = currentWeek();
+        if (currentWeek.week.equals(saved.getWeek())) {
+            saved.getMostActiveUsersThisWeek()
+                .forEach(e -> currentWeek.activeUsers.increment(e.getId(), e.getLabel(), e.getValue()));
+        }
+        saved.getTopGoalsByInvestedEffort().forEach((type, entries) -> topGoalsFor(type).load(entries));
+        logger.info("Adopted global stats of stopped instance {} (last updated {})", saved.getId(), saved.getUpdatedAt());
+        return true;
+    }
+
+    private void dropMissingGoals(List<GlobalStats> live) {
+        Set<String> ids = new HashSet<>();
+        topGoals.values().forEach(sketch -> sketch.top(Integer.MAX_VALUE).forEach(e -> ids.add(e.getId())));
+        live.forEach(doc -> doc.getTopGoalsByInvestedEffort().values().forEach(entries -> entries.forEach(e -> ids.add(e.getId()))));
+        if (ids.isEmpty()) {
+            return;
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("_id");
+        Set<String> existing = mongoTemplate.find(query, Goal.class).stream().map(Goal::getId).collect(toSet());
+        ids.stream().filter(id -> !existing.contains(id)).forEach(this::removeGoal);
+        live.forEach(doc -> doc.getTopGoalsByInvestedEffort()
+            .replaceAll((type, entries) -> entries.stream().filter(e -> existing.contains(e.getId())).toList()));
+    }
+
+    // Full sketch contents, so merging with other instances stays close to a single global sketch
+    private GlobalStats localStats() {
+        DayCounters currentDay = currentDay();
+        WeekCounters currentWeek = currentWeek();
+        foldPending(currentWeek);
+        GlobalStats local = new GlobalStats();
+        local.setId(instanceId);
+        local.setDay(currentDay.day);
+        currentDay.effortByType.forEach((type, adder) -> local.getEffortToday().put(type, adder.sum()));
+        local.setProgressUpdatesToday(currentDay.progressUpdates.sum());
+        currentDay.statusChanges.forEach((status, adder) -> local.getStatusChangesToday().put(status, adder.sum()));
+        local.setWeek(currentWeek.week);
+        local.setMostActiveUsersThisWeek(currentWeek.activeUsers.top(Integer.MAX_VALUE));
+        topGoals.forEach((type, sketch) -> local.getTopGoalsByInvestedEffort().put(type, sketch.top(Integer.MAX_VALUE)));
+        local.setUpdatedAt(Instant.now());
+        return local;
+    }
+
+    // Top K with ids made opaque and labels (user ids, goal names) dropped
+    // remove() takes each buffered value atomically, so writes racing with the fold are kept for the next one
+    private void foldPending(WeekCounters currentWeek) {
+        for (String userId : currentWeek.pendingActivity.keySet()) {
+            Long count = currentWeek.pendingActivity.remove(userId);
+            if (count != null) {
+                currentWeek.activeUsers.increment(userId, userId, count);
+            }
+        }
+        pendingGoals.forEach((type, buffer) -> {
+            for (String goalId : buffer.keySet()) {
+                RankedEntry entry = buffer.remove(goalId);
+                if (entry != null) {
+                    topGoalsFor(type).update(goalId, entry.getLabel(), entry.getValue());
+                }
+            }
+        });
+    }
+
+    private List<RankedEntry> publicTop(Collection<RankedEntry> entries) {
+        return entries.stream()
+            .sorted(Comparator.comparingDouble(RankedEntry::getValue).reversed())
+            .limit(topK)
+            .map(e -> new RankedEntry(opaqueId(e.getId()), null, e.getValue()))
+            .toList();
+    }
+
+    private String opaqueId(String id) {
+        try {
+            Mac mac = Mac.getInstance(OPAQUE_ID_ALGORITHM);
+            mac.init(opaqueIdKey);
+            return HexFormat.of().formatHex(mac.doFinal(id.getBytes(StandardCharsets.UTF_8)), 0, 8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+
+    private DayCounters currentDay() {
+        LocalDate today = today();
+        DayCounters counters = day.get();
+        while (!counters.day.equals(today)) {
+            DayCounters next = new DayCounters(today);
+            if (day.compareAndSet(counters, next)) {
+                return next;
+            }
+            counters = day.get();
+        }
+        return counters;
+    }
+
+    private WeekCounters currentWeek() {
+        String isoWeek = isoWeek(today());
+        WeekCounters counters = week.get();
+        while (!counters.week.equals(isoWeek)) {
+            WeekCounters next = new WeekCounters(isoWeek, topK * SKETCH_FACTOR);
+            if (week.compareAndSet(counters, next)) {
+                return next;
+            }
+            counters = week.get();
+        }
+        return counters;
+    }
+
+    private TopKSketch topGoalsFor(String type) {
+        return topGoals.computeIfAbsent(type, t -> new TopKSketch(topK * SKETCH_FACTOR));
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneId.systemDefault());
+    }
+
+    private static String isoWeek(LocalDate date) {
+        return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+
+    private static final class DayCounters {
+        private final LocalDate day;
+        private final Map<String, DoubleAdder> effortByType = new ConcurrentHashMap<>();
+        private final LongAdder progressUpdates = new LongAdder();
+        private final Map<String, LongAdder> statusChanges = new ConcurrentHashMap<>();
+
+        private DayCounters(LocalDate day) {
+            this.day = day;
+        }
+
+        private DoubleAdder effort(String type) {
+            return effortByType.computeIfAbsent(type, t -> new DoubleAdder());
+        }
+
+        private LongAdder statusChange(String status) {
+            return statusChanges.computeIfAbsent(status, s -> new LongAdder());
+        }
+    }
+
+    private static final class WeekCounters {
+        private final String week;
+        private final TopKSketch activeUsers;
+        private final Map<String, Long> pendingActivity = new ConcurrentHashMap<>(); // userId -> updates since last fold
+
+        private WeekCounters(String week, int capacity) {
+            this.week = week;
+            this.activeUsers = new TopKSketch(capacity);
+        }
+    }
+}
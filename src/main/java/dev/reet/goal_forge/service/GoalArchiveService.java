@@ -0,0 +1,182 @@
+package dev.reet.goal_forge.service;
+
+import dev.reet.goal_forge.exception.GoalNotFoundException;
+import dev.reet.goal_forge.model.ArchivedGoal;
+import dev.reet.goal_forge.model.Goal;
+import dev.reet.goal_forge.repository.ArchivedGoalRepository;
+import dev.reet.goal_forge.repository.GoalReadRepository;
+import dev.reet.goal_forge.repository.GoalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves goals completed longer than the configured age from "goals" to "goals_archive",
+ * storing their progressCalendar in ProgressCalendarCodec form, and brings them back on request.
+ */
+@Service
+public class GoalArchiveService {
+    private static final Logger logger = LoggerFactory.getLogger(GoalArchiveService.class);
+    private final GoalRepository goalRepository;
+    private final ArchivedGoalRepository archivedGoalRepository;
+    private final GoalReadRepository goalReadRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ProgressWriteBuffer progressWriteBuffer;
+    private final GlobalStatsService globalStatsService;
+    private final boolean enabled;
+    private final int completedAgeDays;
+    private final int batchSize;
+
+    public GoalArchiveService(GoalRepository goalRepository,
+                              ArchivedGoalRepository archivedGoalRepository,
+                              GoalReadRepository goalReadRepository,
+                              MongoTemplate mongoTemplate,
+                              ProgressWriteBuffer progressWriteBuffer,
+                              GlobalStatsService globalStatsService,
+                              @Value("${goalforge.archive.enabled}") boolean enabled,
+                              @Value("${goalforge.archive.completed-age-days}") int completedAgeDays,
+                              @Value("${goalforge.archive.batch-size}") int batchSize) {
+        this.goalRepository = goalRepository;
+        this.archivedGoalRepository = archivedGoalRepository;
+        this.goalReadRepository = goalReadRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.progressWriteBuffer = progressWriteBuffer;
+        this.globalStatsService = globalStatsService;
+        this.enabled = enabled;
+        this.completedAgeDays = completedAgeDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Background job: archives completed goals older than completed-age-days in batches.
+     * Goals completed before completedDate existed are stamped with today so they age out normally.
+     */
+    @Scheduled(fixedDelayString = "${goalforge.archive.interval-ms}", initialDelayString = "${goalforge.archive.interval-ms}")
+    public void archiveCompletedGoals() {
+        if (!enabled) return;
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        mongoTemplate.updateMulti(
+            Query.query(Criteria.where("status").is("COMPLETED").and("completedDate").exists(false)),
+            new Update().set("completedDate", today),
+            Goal.class);
+
+        LocalDate cutoff = today.minusDays(completedAgeDays);
+        Query candidates = Query.query(eligible(cutoff)).limit(batchSize);
+        candidates.fields().include("_id");
+        int archived = 0;
+        List<Goal> batch;
+        do {
+            batch = mongoTemplate.find(candidates, Goal.class);
+            for (Goal candidate : batch) {
+                if (archive(candidate.getId(), cutoff)) {
+                    archived++;
+                }
+            }
+        } while (batch.size() == batchSize);
+        if (archived > 0) {
+            logger.info("Archived {} completed goals", archived);
+        }
+    }
+
+    /**
+     * Moves one goal if it is still eligible. Buffered progress is flushed before the read, and the
+     * delete is conditional, so a goal reopened meanwhile stays in "goals" and edits made after the
+     * read end up in the archive.
+     * The archive copy is written first: a crash in between leaves a duplicate, never a lost goal.
+     */
+    private boolean archive(String id, LocalDate cutoff) {
+        progressWriteBuffer.flush(id);
+        Query stillEligible = Query.query(eligible(cutoff).and("_id").is(id));
+        Goal goal = mongoTemplate.findOne(stillEligible, Goal.class);
+        if (goal == null) {
+            return false;
+        }
+        archivedGoalRepository.save(ArchivedGoal.from(goal));
+        Goal removed = mongoTemplate.findAndRemove(stillEligible, Goal.class);
+        if (removed == null) {
+            // Reopened meanwhile: drop our copy. If the goal is gone, another instance archived it
+            // and the copy in goals_archive is the only one left.
+            if (mongoTemplate.exists(Query.query(Criteria.where("_id").is(id)), Goal.class)) {
+                archivedGoalRepository.deleteById(id);
+            }
+            return false;
+        }
+        if (!removed.equals(goal)) {
+            // Written between the read and the delete; keep the latest version
+            archivedGoalRepository.save(ArchivedGoal.from(removed));
+        }
+        globalStatsService.removeGoal(id);
+        return true;
+    }
+
+    private static Criteria eligible(LocalDate cutoff) {
+        return Criteria.where("status").is("COMPLETED").and("completedDate").lt(cutoff);
+    }
+
+    /**
+     * Creates the indexes behind the archive job's scan and the archived-goal listing.
+     * Runs once the app is ready so startup does not wait on Mongo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(Goal.class).ensureIndex(new Index()
+                .on("status", Sort.Direction.ASC).on("completedDate", Sort.Direction.ASC)
+                .named("status_completedDate"));
+            mongoTemplate.indexOps(ArchivedGoal.class).ensureIndex(new Index()
+                .on("userId", Sort.Direction.ASC).on("displayOrder", Sort.Direction.ASC)
+                .named("userId_displayOrder"));
+        } catch (RuntimeException e) {
+            logger.warn("Could not create archive indexes", e);
+        }
+    }
+
+    /**
+     * Route: GET /api/goals/archived
+     * Args: String userId
+     * Description: Retrieves archived goals for a user with their calendars decompressed.
+     */
+    public List<Goal> getArchivedGoals(String userId) {
+        return goalReadRepository.findArchivedByUserIdOrderByDisplayOrder(userId).stream()
+            .map(ArchivedGoal::toGoal)
+            .toList();
+    }
+
+    public Optional<Goal> findArchivedGoal(String id) {
+        return archivedGoalRepository.findById(id).map(ArchivedGoal::toGoal);
+    }
+
+    /**
+     * Route: POST /api/goals/{id}/restore
+     * Args: String id (path variable), String userId
+     * Description: Moves an archived goal back to the goals collection, placed after the user's current goals.
+     * completedDate is reset to today so the goal stays hot for another full archive window.
+     */
+    public Goal restoreGoal(String id, String userId) {
+        ArchivedGoal archived = archivedGoalRepository.findById(id)
+            .filter(a -> userId.equals(a.getUserId()))
+            .orElseThrow(() -> new GoalNotFoundException("Archived goal not found or doesn't belong to user: " + id));
+        Goal goal = archived.toGoal();
+        goal.setDisplayOrder(goalRepository.findByUserId(userId).size());
+        goal.setCompletedDate(LocalDate.now(ZoneId.systemDefault()));
+        Goal restored = goalRepository.save(goal);
+        archivedGoalRepository.deleteById(id);
+        logger.info("Restored archived goal: {} for user: {}", id, userId);
+        return restored;
+    }
+}
@@ -5,6 +5,7 @@ import dev.reet.goal_forge.exception.PreviousDateEffortException;
 import dev.reet.goal_forge.exception.GoalNotFoundException;
 import dev.reet.goal_forge.exception.GoalNotStartedException;
 import dev.reet.goal_forge.model.Goal;
+import dev.reet.goal_forge.repository.GoalReadRepository;
 import dev.reet.goal_forge.repository.GoalRepository;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
@@ -24,9 +25,19 @@ import static java.util.stream.Collectors.toMap;
 public class GoalService {
     private static final Logger logger = LoggerFactory.getLogger(GoalService.class);
     private final GoalRepository goalRepository;
+    private final GoalReadRepository goalReadRepository;
+    private final ProgressWriteBuffer progressWriteBuffer;
+    private final GoalArchiveService goalArchiveService;
+    private final GlobalStatsService globalStatsService;
 
-    public GoalService(GoalRepository goalRepository) {
+    public GoalService(GoalRepository goalRepository, GoalReadRepository goalReadRepository,
+                       ProgressWriteBuffer progressWriteBuffer, GoalArchiveService goalArchiveService,
+                       GlobalStatsService globalStatsService) {
         this.goalRepository = goalRepository;
+        this.goalReadRepository = goalReadRepository;
+        this.progressWriteBuffer = progressWriteBuffer;
+        this.goalArchiveService = goalArchiveService;
+        this.globalStatsService = globalStatsService;
     }
 
     /**
@@ -57,31 +68,58 @@ public class GoalService {
 
     /**
      * Route: GET /api/goals/{id}
-     * Args: String id (path variable)
-     * Description: Retrieves a goal by its ID.
+     * Args: String id (path variable), String userId
+     * Description: Retrieves one of the user's goals by its ID, falling back to the archive for archived goals.
      */
-    public Optional<Goal> getGoal(String id) {
-        return goalRepository.findById(id);
+    public Optional<Goal> getGoal(String id, String userId) {
+        Optional<Goal> goal = goalRepository.findById(id);
+        return (goal.isPresent() ? goal : goalArchiveService.findArchivedGoal(id))
+            .filter(g -> userId.equals(g.getUserId()));
     }
 
     /**
      * Route: GET /api/goals/user/{userId}
      * Args: String userId (path variable)
      * Description: Retrieves all goals for a specific user ordered by displayOrder.
+     * Read-only, so it may be served by a secondary (see GoalReadRepository).
      */
     public List<Goal> getGoals(String userId) {
-        return goalRepository.findByUserIdOrderByDisplayOrder(userId);
+        return goalReadRepository.findByUserIdOrderByDisplayOrder(userId);
+    }
+
+    /**
+     * Route: GET /api/goals?includeArchived=true
+     * Args: String userId
+     * Description: Retrieves the user's goals followed by their archived goals.
+     */
+    public List<Goal> getGoalsIncludingArchived(String userId) {
+        List<Goal> goals = new ArrayList<>(getGoals(userId));
+        goals.addAll(goalArchiveService.getArchivedGoals(userId));
+        return goals;
     }
 
     /**
      * Route: POST /api/goals/{goalId}/progress
      * Args: String goalId (path variable), LocalDate date, double effort (request body)
      * Description: Adds progress effort for a goal on a specific date.
+     * When coalescing is enabled the update is buffered and written by ProgressWriteBuffer.
      */
     public Goal addProgress(String goalId, LocalDate date, double effort) {
+        if (progressWriteBuffer.isEnabled()) {
+            Goal buffered = progressWriteBuffer.submit(goalId, date, goal -> applyProgress(goal, date, effort));
+            if (buffered != null) {
+                return buffered;
+            }
+        }
+        progressWriteBuffer.flush(goalId);
         Goal goal = goalRepository.findById(goalId)
                 .orElseThrow(() -> new GoalNotFoundException("Goal not found"));
-        
+        applyProgress(goal, date, effort);
+        return goalRepository.save(goal);
+    }
+
+    // Validates the update against the goal's current state, then applies it
+    private void applyProgress(Goal goal, LocalDate date, double effort) {
         // Check if goal has been started
         if ("NOT_STARTED".equals(goal.getStatus())) {
             throw new GoalNotStartedException("Cannot add progress to a goal that has not been started. Please start the goal first.");
@@ -100,11 +138,11 @@ public class GoalService {
         if (effort > remainingEffort) {
             throw new dev.reet.goal_forge.exception.EffortExceedsRemainingException("Effort for today exceeds remaining effort. Remaining: " + remainingEffort);
         }
-        goal.getProgressCalendar().put(date.toString(), effort);
+        Double previousEffort = goal.getProgressCalendar().put(date.toString(), effort);
         double totalInvestedEffort = totalEffortExcludingToday + effort;
         goal.setInvestedEffort(totalInvestedEffort);
         goal.setRemainingEffort(goal.getEstimatedEffort() - totalInvestedEffort);
-        return goalRepository.save(goal);
+        globalStatsService.recordProgress(goal, effort - (previousEffort == null ? 0.0 : previousEffort));
     }
 
     /**
@@ -113,6 +151,7 @@ public class GoalService {
      * Description: Starts a goal, setting its status to ACTIVE and start date to today.
      */
     public Goal startGoal(String id) {
+        progressWriteBuffer.flush(id);
         Goal goal = goalRepository.findById(id)
                 .orElseThrow(() -> new GoalNotFoundException("Goal not found"));
         if (!"NOT_STARTED".equals(goal.getStatus())) {
@@ -121,7 +160,9 @@ public class GoalService {
         // Use system default timezone to get the correct local date
         goal.setStartDate(LocalDate.now(ZoneId.systemDefault()));
         goal.setStatus("ACTIVE");
-        return goalRepository.save(goal);
+        Goal saved = goalRepository.save(goal);
+        globalStatsService.recordStatusChange(saved);
+        return saved;
     }
 
     /**
@@ -130,13 +171,16 @@ public class GoalService {
      * Description: Pauses an active goal, setting its status to PAUSED.
      */
     public Goal pauseGoal(String id) {
+        progressWriteBuffer.flush(id);
         Goal goal = goalRepository.findById(id)
                 .orElseThrow(() -> new GoalNotFoundException("Goal not found"));
         if (!"ACTIVE".equals(goal.getStatus())) {
             throw new GoalPausedException("Goal is not active and cannot be paused");
         }
         goal.setStatus("PAUSED");
-        return goalRepository.save(goal);
+        Goal saved = goalRepository.save(goal);
+        globalStatsService.recordStatusChange(saved);
+        return saved;
     }
 
     /**
@@ -145,13 +189,16 @@ public class GoalService {
      * Description: Resumes a paused goal, setting its status to ACTIVE.
      */
     public Goal resumeGoal(String id) {
+        progressWriteBuffer.flush(id);
         Goal goal = goalRepository.findById(id)
                 .orElseThrow(() -> new GoalNotFoundException("Goal not found"));
         if (!"PAUSED".equals(goal.getStatus())) {
             throw new GoalPausedException("Goal is not paused and cannot be resumed");
         }
         goal.setStatus("ACTIVE");
-        return goalRepository.save(goal);
+        Goal saved = goalRepository.save(goal);
+        globalStatsService.recordStatusChange(saved);
+        return saved;
     }
 
     /**
@@ -160,13 +207,17 @@ public class GoalService {
      * Description: Marks a goal as completed, setting its status to COMPLETED.
      */
     public Goal completeGoal(String id) {
+        progressWriteBuffer.flush(id);
         Goal goal = goalRepository.findById(id)
                 .orElseThrow(() -> new GoalNotFoundException("Goal not found"));
         if ("COMPLETED".equals(goal.getStatus())) {
             throw new RuntimeException("Goal is already completed");
         }
         goal.setStatus("COMPLETED");
-        return goalRepository.save(goal);
+        goal.setCompletedDate(LocalDate.now(ZoneId.systemDefault()));
+        Goal saved = goalRepository.save(goal);
+        globalStatsService.recordStatusChange(saved);
+        return saved;
     }
 
     /**
@@ -175,9 +226,12 @@ public class GoalService {
      * Description: Deletes a goal by its ID.
      */
     public void deleteGoal(String id) {
+        progressWriteBuffer.flush(id);
         Goal goal = goalRepository.findById(id)
             .orElseThrow(() -> new GoalNotFoundException("Goal not found"));
         goalRepository.delete(goal);
+        goalReadRepository.markWrite(goal.getUserId());
+        globalStatsService.removeGoal(id);
     }
 
     /**
@@ -188,7 +242,11 @@ public class GoalService {
     public void deleteGoals(String userId) {
         if (userId == null) return;
         List<Goal> userGoals = goalRepository.findByUserId(userId);
+        // Otherwise a later flush would $set buffered values over goals re-imported with the same ids
+        userGoals.forEach(goal -> progressWriteBuffer.flush(goal.getId()));
         goalRepository.deleteAll(userGoals);
+        goalReadRepository.markWrite(userId);
+        userGoals.forEach(goal -> globalStatsService.removeGoal(goal.getId()));
     }
     
     /**
@@ -197,6 +255,7 @@ public class GoalService {
      * Description: Updates an existing goal with new data while preserving certain fields.
      */
     public Goal updateGoal(String id, Goal updatedGoal, String userId) {
+        progressWriteBuffer.flush(id);
         Goal existingGoal = goalRepository.findById(id)
                 .orElseThrow(() -> new GoalNotFoundException("Goal not found: " + id));
         
@@ -234,6 +293,7 @@ public class GoalService {
      */
     public List<Goal> updateGoalOrders(String userId, List<String> goalIds) {
         logger.info("Updating goal orders for user: {} with {} goals", userId, goalIds.size());
+        goalIds.forEach(progressWriteBuffer::flush);
         
         // Fetch user goals once and create efficient lookup structures
         List<Goal> userGoals = goalRepository.findByUserId(userId);
@@ -274,6 +334,7 @@ public class GoalService {
      * Description: Saves a batch of goals to the repository.
      */
     public List<Goal> saveAllGoals(List<Goal> goals) {
+        goals.stream().map(Goal::getId).filter(id -> id != null).forEach(progressWriteBuffer::flush);
         return goalRepository.saveAll(goals);
     }
 }
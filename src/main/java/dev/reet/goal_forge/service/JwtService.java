@@ -11,10 +11,13 @@ import java.util.Date;
 @Service
 
 public class JwtService {
-    @Value("${JWT_SECRET}")
-    private String secretKey;
+    private final String secretKey;
     private final long EXPIRATION = 1000 * 60 * 60 * 24 * 7; // 7 days
 
+    public JwtService(@Value("${JWT_SECRET}") String secretKey) {
+        this.secretKey = secretKey;
+    }
+
 
     public String generateToken(String userId, String email) {
         return Jwts.builder()
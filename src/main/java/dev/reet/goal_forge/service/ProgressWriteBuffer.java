@@ -0,0 +1,312 @@
+package dev.reet.goal_forge.service;
+
+import dev.reet.goal_forge.exception.GoalNotFoundException;
+import dev.reet.goal_forge.model.Goal;
+import dev.reet.goal_forge.repository.GoalReadRepository;
+import dev.reet.goal_forge.repository.GoalRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Opt-in write coalescing for POST /api/goals/{id}/progress.
+ * Updates are validated against a cached copy of the goal, merged per (goalId, date) and
+ * flushed to Mongo in one bulk write every flush interval and on shutdown.
+ * A flush sets only the buffered dates and recomputes investedEffort/remainingEffort in Mongo, so
+ * other instances' writes to the same goal are kept. The cache is per process, though: with several
+ * instances the remaining-effort check may miss effort another instance logged within a flush interval.
+ *
+ * Durability:
+ * - BUFFERED: the request is acknowledged once buffered; a crash loses up to one flush interval.
+ * - GROUP_COMMIT: the request waits until the flush containing its update has been written.
+ * A failed flush (e.g. during a failover) puts its updates back in the buffer to be retried on the
+ * next flush; GROUP_COMMIT waiters keep waiting for that retry until commit-timeout-ms.
+ * Reads of the goal lag by up to one flush interval in both modes.
+ */
+@Service
+public class ProgressWriteBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(ProgressWriteBuffer.class);
+
+    public enum Durability { BUFFERED, GROUP_COMMIT }
+
+    private final GoalRepository goalRepository;
+    private final GoalReadRepository goalReadRepository;
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Durability durability;
+    private final int maxPendingUpdates;
+    private final long commitTimeoutMillis;
+    private final ConcurrentHashMap<String, PendingGoal> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PendingGoal> flushing = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingUpdates = new AtomicInteger();
+    private final Timer flushTimer;
+    private final Counter coalescedCounter;
+    private final Counter failedCounter;
+    private volatile boolean draining;
+
+    public ProgressWriteBuffer(GoalRepository goalRepository,
+                               GoalReadRepository goalReadRepository,
+                               MongoTemplate mongoTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${goalforge.progress.coalescing.enabled}") boolean enabled,
+                               @Value("${goalforge.progress.coalescing.durability}") Durability durability,
+                               @Value("${goalforge.progress.coalescing.max-pending-updates}") int maxPendingUpdates,
+                               @Value("${goalforge.progress.coalescing.commit-timeout-ms}") long commitTimeoutMillis) {
+        this.goalRepository = goalRepository;
+        this.goalReadRepository = goalReadRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.durability = durability;
+        this.maxPendingUpdates = maxPendingUpdates;
+        this.commitTimeoutMillis = commitTimeoutMillis;
+        Gauge.builder("goalforge.progress.buffer.pending", pendingUpdates, AtomicInteger::get)
+            .description("Buffered (goalId, date) progress updates awaiting flush")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("goalforge.progress.buffer.flush")
+            .description("Latency of bulk progress flushes to Mongo")
+            .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("goalforge.progress.buffer.coalesced")
+            .description("Progress updates merged into an already buffered (goalId, date)")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("goalforge.progress.buffer.failed")
+            .description("Buffered progress updates put back for retry after a failed flush")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled && !draining;
+    }
+
+    /**
+     * Applies the update to the cached goal and buffers it.
+     * Returns a snapshot of the updated goal, or null when the buffer is full and the caller must write through.
+     * Validation exceptions thrown by the update propagate unchanged.
+     */
+    public Goal submit(String goalId, LocalDate date, Consumer<Goal> update) {
+        if (pendingUpdates.get() >= maxPendingUpdates) {
+            flush(goalId);
+            return null;
+        }
+        String dateKey = date.toString();
+        while (true) {
+            PendingGoal entry = pending.get(goalId);
+            if (entry == null) {
+                awaitSettled(flushing.get(goalId));
+                Goal goal = goalRepository.findById(goalId)
+                        .orElseThrow(() -> new GoalNotFoundException("Goal not found"));
+                PendingGoal fresh = new PendingGoal(goal);
+                entry = pending.putIfAbsent(goalId, fresh);
+                if (entry == null) {
+                    entry = fresh;
+                }
+            }
+            Goal snapshot;
+            synchronized (entry) {
+                if (entry.detached) {
+                    // Being flushed; retry once the write has landed or been put back
+                    awaitSettled(entry);
+                    continue;
+                }
+                update.accept(entry.goal);
+                if (entry.dirtyDates.add(dateKey)) {
+                    pendingUpdates.incrementAndGet();
+                } else {
+                    coalescedCounter.increment();
+                }
+                snapshot = copyOf(entry.goal);
+            }
+            if (durability == Durability.GROUP_COMMIT) {
+                try {
+                    entry.flushed.get(commitTimeoutMillis, TimeUnit.MILLISECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Progress update could not be persisted", e);
+                }
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Writes any buffered updates for the goal and drops its cached state.
+     * Called before other writes to the goal so they start from what is in Mongo; throws when the
+     * updates cannot be written, so the caller does not overwrite them.
+     */
+    public void flush(String goalId) {
+        awaitSettled(flushing.get(goalId));
+        if (pending.containsKey(goalId) && !write(detach(List.of(goalId)))) {
+            throw new IllegalStateException("Buffered progress for goal " + goalId + " could not be written");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${goalforge.progress.coalescing.flush-interval-ms}")
+    public void flush() {
+        if (!pending.isEmpty()) {
+            write(detach(new ArrayList<>(pending.keySet())));
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        draining = true;
+        flush();
+        logger.info("Progress write buffer drained");
+    }
+
+    private List<PendingGoal> detach(List<String> goalIds) {
+        List<PendingGoal> batch = new ArrayList<>();
+        for (String goalId : goalIds) {
+            PendingGoal entry = pending.get(goalId);
+            if (entry == null) {
+                continue;
+            }
+            // Register the in-flight flush before removing, so loaders wait for it
+            flushing.put(goalId, entry);
+            if (pending.remove(goalId, entry)) {
+                batch.add(entry);
+            } else {
+                flushing.remove(goalId, entry);
+            }
+        }
+        return batch;
+    }
+
+    // Returns false when the batch failed and was put back into the buffer
+    private boolean write(List<PendingGoal> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        long start = System.nanoTime();
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Goal.class);
+        int updates = 0;
+        for (PendingGoal entry : batch) {
+            synchronized (entry) {
+                entry.detached = true;
+                Goal goal = entry.goal;
+                Document calendar = new Document();
+                for (String date : entry.dirtyDates) {
+                    calendar.append("progressCalendar." + date, goal.getProgressCalendar().get(date));
+                }
+                ops.updateOne(Query.query(Criteria.where("_id").is(goal.getId())), progressUpdate(calendar));
+                updates += entry.dirtyDates.size();
+            }
+        }
+        try {
+            ops.execute();
+            batch.forEach(entry -> goalReadRepository.markWrite(entry.goal.getUserId()));
+            batch.forEach(entry -> entry.flushed.complete(null));
+            pendingUpdates.addAndGet(-updates);
+            return true;
+        } catch (RuntimeException e) {
+            logger.error("Failed to flush {} buffered progress updates, retrying on the next flush", updates, e);
+            failedCounter.increment(updates);
+            batch.forEach(this::requeue);
+            return false;
+        } finally {
+            batch.forEach(entry -> {
+                flushing.remove(entry.goal.getId(), entry);
+                entry.settled.complete(null);
+            });
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sets only the buffered dates, then recomputes the totals on the server from the stored calendar,
+     * so dates written meanwhile by another instance are neither overwritten nor left out of the sums.
+     */
+    private static AggregationUpdate progressUpdate(Document calendar) {
+        Document investedEffort = new Document("$sum", new Document("$map",
+            new Document("input", new Document("$objectToArray", "$progressCalendar")).append("in", "$$this.v")));
+        List<AggregationOperation> stages = List.of(
+            context -> new Document("$set", calendar),
+            context -> new Document("$set", new Document("investedEffort", investedEffort)),
+            context -> new Document("$set", new Document("remainingEffort",
+                new Document("$subtract", List.of("$estimatedEffort", "$investedEffort")))));
+        return AggregationUpdate.from(stages);
+    }
+
+    /**
+     * Puts a failed entry back with its cached goal and dirty dates. Loaders wait on the in-flight
+     * entry before reading Mongo, so nothing newer can be buffered for the goal at this point.
+     * GROUP_COMMIT waiters on the failed entry complete with the retry.
+     */
+    private void requeue(PendingGoal failed) {
+        PendingGoal retry = new PendingGoal(failed.goal);
+        retry.dirtyDates.addAll(failed.dirtyDates);
+        retry.flushed.whenComplete((ignored, e) -> {
+            if (e == null) {
+                failed.flushed.complete(null);
+            } else {
+                failed.flushed.completeExceptionally(e);
+            }
+        });
+        if (pending.putIfAbsent(failed.goal.getId(), retry) != null) {
+            logger.error("Dropping {} buffered progress updates for goal {}: a newer copy is already buffered",
+                failed.dirtyDates.size(), failed.goal.getId());
+            pendingUpdates.addAndGet(-failed.dirtyDates.size());
+            failed.flushed.completeExceptionally(new IllegalStateException("Progress update could not be persisted"));
+        }
+    }
+
+    // Waits until an in-flight entry has been written or put back into the buffer
+    private static void awaitSettled(PendingGoal inFlight) {
+        if (inFlight != null) {
+            inFlight.settled.join();
+        }
+    }
+
+    private static Goal copyOf(Goal source) {
+        Goal copy = new Goal();
+        copy.setId(source.getId());
+        copy.setUserId(source.getUserId());
+        copy.setGoalName(source.getGoalName());
+        copy.setProgressType(source.getProgressType());
+        copy.setEstimatedEffort(source.getEstimatedEffort());
+        copy.setProgressCalendar(new HashMap<>(source.getProgressCalendar()));
+        copy.setInvestedEffort(source.getInvestedEffort());
+        copy.setRemainingEffort(source.getRemainingEffort());
+        copy.setStartDate(source.getStartDate());
+        copy.setCompletedDate(source.getCompletedDate());
+        copy.setStatus(source.getStatus());
+        copy.setDisplayOrder(source.getDisplayOrder());
+        return copy;
+    }
+
+    private static final class PendingGoal {
+        private final Goal goal;
+        private final Set<String> dirtyDates = new LinkedHashSet<>();
+        private final CompletableFuture<Void> flushed = new CompletableFuture<>(); // written to Mongo
+        private final CompletableFuture<Void> settled = new CompletableFuture<>(); // written or put back
+        private boolean detached;
+
+        private PendingGoal(Goal goal) {
+            this.goal = goal;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.reet.goal_forge.service;
+
+import dev.reet.goal_forge.model.GlobalStats.RankedEntry;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-capacity top-K tracker. increment() follows the Space-Saving algorithm (a new key
+ * evicts the minimum and inherits its count), so heavy hitters are kept with bounded error.
+ * update() keeps the largest current values and remove() drops keys that no longer exist.
+ * Capacity is a few times K for accuracy.
+ * Methods are synchronized and eviction scans for the minimum, so callers feed it in batches
+ * from a single background tick rather than from request threads.
+ */
+class TopKSketch {
+    private final int capacity;
+    private final Map<String, RankedEntry> entries = new HashMap<>();
+
+    TopKSketch(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized void increment(String key, String label, double delta) {
+        RankedEntry entry = entries.get(key);
+        if (entry != null) {
+            entry.setValue(entry.getValue() + delta);
+            return;
+        }
+        double inherited = 0;
+        if (entries.size() >= capacity) {
+            RankedEntry min = min();
+            entries.remove(min.getId());
+            inherited = min.getValue();
+        }
+        entries.put(key, new RankedEntry(key, label, inherited + delta));
+    }
+
+    synchronized void update(String key, String label, double value) {
+        RankedEntry entry = entries.get(key);
+        if (entry != null) {
+            entry.setLabel(label);
+            entry.setValue(value);
+            return;
+        }
+        if (entries.size() >= capacity) {
+            RankedEntry min = min();
+            if (min.getValue() >= value) {
+                return;
+            }
+            entries.remove(min.getId());
+        }
+        entries.put(key, new RankedEntry(key, label, value));
+    }
+
+    synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    synchronized List<RankedEntry> top(int k) {
+        return entries.values().stream()
+            .sorted(Comparator.comparingDouble(RankedEntry::getValue).reversed())
+            .limit(k)
+            .map(e -> new RankedEntry(e.getId(), e.getLabel(), e.getValue()))
+            .toList();
+    }
+
+    // Adds saved entries without overwriting keys already updated since startup
+    synchronized void load(List<RankedEntry> snapshot) {
+        for (RankedEntry e : snapshot) {
+            if (entries.size() >= capacity) break;
+            entries.putIfAbsent(e.getId(), new RankedEntry(e.getId(), e.getLabel(), e.getValue()));
+        }
+    }
+
+    private RankedEntry min() {
+        RankedEntry min = null;
+        for (RankedEntry e : entries.values()) {
+            if (min == null || e.getValue() < min.getValue()) {
+                min = e;
+            }
+        }
+        return min;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.reet.goal_forge.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ErrorResponseTemplateTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final ErrorResponseTemplate TEMPLATE = ErrorResponseTemplate.of("GoalPausedException", HttpStatus.BAD_REQUEST);
+
+	@ParameterizedTest
+	@NullSource
+	@ValueSource(strings = {
+		"Goal is paused",
+		"",
+		"Goal \"Run 10k\" not found",
+		"C:\\goals\\export.json",
+		"line\nbreak\ttab\rreturn\u0000nul\u001fus",
+		"Déjà vu — 目標 🎯",
+		"</script><script>alert(1)</script>"
+	})
+	void rendersTheSameBodyAsTheSerializedMap(String message) throws Exception {
+		Map<String, Object> legacy = new HashMap<>();
+		legacy.put("error", "GoalPausedException");
+		legacy.put("message", message);
+		legacy.put("status", 400);
+
+		JsonNode rendered = MAPPER.readTree(TEMPLATE.render(message));
+
+		assertEquals(MAPPER.readTree(MAPPER.writeValueAsBytes(legacy)), rendered);
+		assertEquals(3, rendered.size());
+	}
+
+	@Test
+	void escapesTheErrorName() throws Exception {
+		JsonNode rendered = MAPPER.readTree(ErrorResponseTemplate.of("Odd\"Name\\", HttpStatus.NOT_FOUND).render("m"));
+
+		assertEquals("Odd\"Name\\", rendered.get("error").asText());
+		assertEquals(404, rendered.get("status").asInt());
+	}
+
+	@Test
+	void responseCarriesStatusAndJsonContentType() throws Exception {
+		ResponseEntity<byte[]> response = TEMPLATE.toResponse("Goal is paused");
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+		assertEquals("Goal is paused", MAPPER.readTree(response.getBody()).get("message").asText());
+	}
+}
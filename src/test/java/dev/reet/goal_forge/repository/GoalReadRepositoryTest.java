@@ -0,0 +1,239 @@
+package dev.reet.goal_forge.repository;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import dev.reet.goal_forge.model.Goal;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against a three-member replica set: one primary and two priority-0 secondaries that apply
+ * writes 30 s late, so a read served by a secondary demonstrably misses recent writes.
+ * Members use host networking so the driver reaches them at the addresses in the replica set config
+ * (Linux Docker only). A CommandListener records which member served each find.
+ */
+@DataMongoTest(properties = "goalforge.mongo.read-routing.enabled=true")
+@Import({GoalReadRepository.class, GoalReadRepositoryTest.FindRecorder.class})
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledOnOs(OS.LINUX)
+class GoalReadRepositoryTest {
+
+	private static final int SECONDARY_DELAY_SECONDS = 30;
+	private static final int[] PORTS = {freePort(), freePort(), freePort()};
+	private static final ServerAddress PRIMARY = new ServerAddress("127.0.0.1", PORTS[0]);
+
+	@Container
+	static GenericContainer<?> member0 = member(PORTS[0]);
+
+	@Container
+	static GenericContainer<?> member1 = member(PORTS[1]);
+
+	@Container
+	static GenericContainer<?> member2 = member(PORTS[2]);
+
+	@DynamicPropertySource
+	static void mongoProperties(DynamicPropertyRegistry registry) {
+		initiateReplicaSet();
+		registry.add("spring.data.mongodb.uri", () -> "mongodb://127.0.0.1:" + PORTS[0] + ",127.0.0.1:" + PORTS[1]
+			+ ",127.0.0.1:" + PORTS[2] + "/goal_tracker?replicaSet=rs0&w=1");
+	}
+
+	@Autowired
+	private GoalReadRepository goalReadRepository;
+
+	@Autowired
+	private GoalRepository goalRepository;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private MongoDatabaseFactory mongoDatabaseFactory;
+
+	@Autowired
+	private MongoConverter mongoConverter;
+
+	@Autowired
+	private MongoClient mongoClient;
+
+	@Autowired
+	private FindRecorder findRecorder;
+
+	@BeforeEach
+	void awaitSecondariesDiscovered() throws InterruptedException {
+		// secondaryPreferred falls back to the primary until the driver has seen the secondaries
+		for (int i = 0; i < 100 && secondariesKnown() < 2; i++) {
+			Thread.sleep(100);
+		}
+		assertEquals(2, secondariesKnown());
+		findRecorder.servedBy.clear();
+	}
+
+	@Test
+	void readsWithoutRecentWritesGoToASecondary() {
+		goalReadRepository.findByUserIdOrderByDisplayOrder("reader");
+
+		assertNotEquals(PRIMARY, lastFindServedBy());
+	}
+
+	@Test
+	void secondaryReadsMissWritesThatWereNotTracked() {
+		// Raw insert: no AfterSaveEvent, so the user is not pinned to the primary
+		mongoTemplate.getCollection("goals").insertOne(new Document("userId", "untracked-writer").append("goalName", "Read a book"));
+
+		List<Goal> goals = goalReadRepository.findByUserIdOrderByDisplayOrder("untracked-writer");
+
+		assertNotEquals(PRIMARY, lastFindServedBy());
+		assertTrue(goals.isEmpty());
+	}
+
+	@Test
+	void ownSaveIsVisibleRightAfterWriting() {
+		Goal goal = new Goal();
+		goal.setUserId("writer");
+		goal.setGoalName("Run 10k");
+		goalRepository.save(goal);
+
+		List<Goal> goals = goalReadRepository.findByUserIdOrderByDisplayOrder("writer");
+
+		assertEquals(PRIMARY, lastFindServedBy());
+		assertEquals(List.of(goal.getId()), goals.stream().map(Goal::getId).toList());
+
+		goalReadRepository.findByUserIdOrderByDisplayOrder("someone-else");
+		assertNotEquals(PRIMARY, lastFindServedBy());
+	}
+
+	@Test
+	void markWritePinsReadsToThePrimary() {
+		goalReadRepository.markWrite("deleter");
+
+		goalReadRepository.findByUserIdOrderByDisplayOrder("deleter");
+
+		assertEquals(PRIMARY, lastFindServedBy());
+	}
+
+	@Test
+	void fullTrackingSendsEveryoneToThePrimary() {
+		GoalReadRepository bounded = new GoalReadRepository(mongoTemplate, mongoDatabaseFactory, mongoConverter, true, 90, 2);
+		bounded.markWrite("a");
+		bounded.markWrite("b");
+		bounded.findByUserIdOrderByDisplayOrder("untracked");
+		assertNotEquals(PRIMARY, lastFindServedBy());
+
+		bounded.markWrite("c");
+		bounded.findByUserIdOrderByDisplayOrder("untracked");
+
+		assertEquals(PRIMARY, lastFindServedBy());
+	}
+
+	@Test
+	void disabledRoutingReadsFromThePrimary() {
+		GoalReadRepository disabled = new GoalReadRepository(mongoTemplate, mongoDatabaseFactory, mongoConverter, false, 90, 100);
+
+		disabled.findByUserIdOrderByDisplayOrder("reader");
+
+		assertEquals(PRIMARY, lastFindServedBy());
+	}
+
+	private ServerAddress lastFindServedBy() {
+		assertTrue(!findRecorder.servedBy.isEmpty(), "no find was issued");
+		return findRecorder.servedBy.get(findRecorder.servedBy.size() - 1);
+	}
+
+	private long secondariesKnown() {
+		return mongoClient.getClusterDescription().getServerDescriptions().stream()
+			.filter(ServerDescription::isSecondary)
+			.count();
+	}
+
+	private static GenericContainer<?> member(int port) {
+		return new GenericContainer<>("mongo:7")
+			.withNetworkMode("host")
+			.withCommand("--replSet", "rs0", "--bind_ip", "127.0.0.1", "--port", Integer.toString(port))
+			.waitingFor(Wait.forLogMessage(".*Waiting for connections.*", 1));
+	}
+
+	private static void initiateReplicaSet() {
+		try (MongoClient client = MongoClients.create("mongodb://127.0.0.1:" + PORTS[0] + "/?directConnection=true")) {
+			Document config = new Document("_id", "rs0").append("members", List.of(
+				new Document("_id", 0).append("host", "127.0.0.1:" + PORTS[0]).append("priority", 2),
+				new Document("_id", 1).append("host", "127.0.0.1:" + PORTS[1]).append("priority", 0)
+					.append("secondaryDelaySecs", SECONDARY_DELAY_SECONDS),
+				new Document("_id", 2).append("host", "127.0.0.1:" + PORTS[2]).append("priority", 0)
+					.append("secondaryDelaySecs", SECONDARY_DELAY_SECONDS)));
+			client.getDatabase("admin").runCommand(new Document("replSetInitiate", config));
+			for (int i = 0; i < 600; i++) {
+				List<Document> members = client.getDatabase("admin")
+					.runCommand(new Document("replSetGetStatus", 1)).getList("members", Document.class);
+				long primaries = members.stream().filter(m -> "PRIMARY".equals(m.getString("stateStr"))).count();
+				long secondaries = members.stream().filter(m -> "SECONDARY".equals(m.getString("stateStr"))).count();
+				if (primaries == 1 && secondaries == 2) {
+					return;
+				}
+				Thread.sleep(100);
+			}
+			throw new IllegalStateException("Replica set did not come up");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static int freePort() {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** Records the member that served each find on the goals collection. */
+	@TestConfiguration
+	static class FindRecorder implements CommandListener {
+		final List<ServerAddress> servedBy = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void commandStarted(CommandStartedEvent event) {
+			if ("find".equals(event.getCommandName()) && "goals".equals(event.getCommand().getString("find").getValue())) {
+				servedBy.add(event.getConnectionDescription().getServerAddress());
+			}
+		}
+
+		@Bean
+		MongoClientSettingsBuilderCustomizer findRecorderCustomizer() {
+			return builder -> builder.addCommandListener(this);
+		}
+	}
+}
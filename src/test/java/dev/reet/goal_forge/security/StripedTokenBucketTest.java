@@ -0,0 +1,87 @@
+package dev.reet.goal_forge.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedTokenBucketTest {
+
+	private final AtomicLong clock = new AtomicLong(1_000);
+
+	@Test
+	void admitsBurstThenReportsWait() {
+		StripedTokenBucket bucket = new StripedTokenBucket(1024, 3, 0.5, clock::get);
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, bucket.tryAcquire("user"));
+		}
+		// 0.5 tokens/s: a full token takes 2 s
+		assertEquals(2_000, bucket.tryAcquire("user"));
+	}
+
+	@Test
+	void refillsOverTime() {
+		StripedTokenBucket bucket = new StripedTokenBucket(1024, 2, 10, clock::get);
+		bucket.tryAcquire("user");
+		bucket.tryAcquire("user");
+		assertTrue(bucket.tryAcquire("user") > 0);
+
+		clock.addAndGet(50); // half a token
+		assertEquals(50, bucket.tryAcquire("user"));
+
+		clock.addAndGet(50);
+		assertEquals(0, bucket.tryAcquire("user"));
+		assertTrue(bucket.tryAcquire("user") > 0);
+
+		clock.addAndGet(10_000); // refill is capped at the burst
+		assertEquals(0, bucket.tryAcquire("user"));
+		assertEquals(0, bucket.tryAcquire("user"));
+		assertTrue(bucket.tryAcquire("user") > 0);
+	}
+
+	@Test
+	void keySharingAStripeWithADrainedKeyStaysAdmitted() {
+		StripedTokenBucket bucket = new StripedTokenBucket(64, 1, 0.001, clock::get);
+		Set<Integer> abuserStripes = stripes(bucket, "abuser");
+		String neighbour = null;
+		for (int i = 0; neighbour == null; i++) {
+			Set<Integer> candidate = stripes(bucket, "user" + i);
+			boolean shares = candidate.stream().anyMatch(abuserStripes::contains);
+			if (shares && !abuserStripes.containsAll(candidate)) {
+				neighbour = "user" + i;
+			}
+		}
+
+		assertEquals(0, bucket.tryAcquire("abuser"));
+		assertTrue(bucket.tryAcquire("abuser") > 0);
+
+		assertEquals(0, bucket.tryAcquire(neighbour));
+	}
+
+	@Test
+	void keyWhoseStripesAreAllDrainedIsDenied() {
+		StripedTokenBucket bucket = new StripedTokenBucket(1, 1, 0.001, clock::get);
+		assertEquals(0, bucket.tryAcquire("abuser"));
+
+		assertTrue(bucket.tryAcquire("anyone-else") > 0);
+	}
+
+	@Test
+	void rejectsBurstThatDoesNotFitThePackedState() {
+		assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(16, 16_778, 1));
+		assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(16, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(16, 1, 0));
+		new StripedTokenBucket(16, 16_777, 1);
+	}
+
+	private static Set<Integer> stripes(StripedTokenBucket bucket, String key) {
+		return Arrays.stream(bucket.stripesFor(key)).boxed().collect(Collectors.toSet());
+	}
+}